@@ -35,7 +35,7 @@ public class DebrisFactory extends SpaceObjectFactory {
      */
     @Override
     public SpaceObject create(Map<String, String> data) {
-        return new Debris(
+        return create(
             data.get("record_id"),
             data.get("satellite_name"),
             data.get("country"),
@@ -49,4 +49,17 @@ public class DebrisFactory extends SpaceObjectFactory {
             TrackingSystem.parseLongSafe(data.get("conjunction_count"), 0)
         );
     }
+
+    /**
+     * Creates a new {@code Debris} object from already parsed attribute values.
+     *
+     * @return A new {@code Debris} object populated with the provided values.
+     */
+    @Override
+    public SpaceObject create(String recordId, String satelliteName, String country, String orbitType,
+                              int launchYear, String launchSite, double longitude,
+                              double avgLongitude, String geohash, int daysOld, long conjunctionCount) {
+        return new Debris(recordId, satelliteName, country, orbitType, launchYear,
+                launchSite, longitude, avgLongitude, geohash, daysOld, conjunctionCount);
+    }
 }
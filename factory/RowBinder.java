@@ -0,0 +1,132 @@
+/**
+ * The {@code RowBinder} class creates space objects straight from CSV records. It is compiled
+ * once per header by {@link SpaceObjectFactory#bind(Map)}: every attribute is resolved to a
+ * column index up front, and each record is bound by reading those columns and passing the
+ * parsed values to the shared factory for the record's object type.
+ */
+package factory;
+
+import model.CsvReader;
+import model.SpaceObject;
+import model.FieldParser;
+
+import java.util.Map;
+
+public class RowBinder {
+    private final int recordId;
+    private final int satelliteName;
+    private final int country;
+    private final int orbitType;
+    private final int objectType;
+    private final int launchYear;
+    private final int launchSite;
+    private final int longitude;
+    private final int avgLongitude;
+    private final int geohash;
+    private final int daysOld;
+    private final int conjunctionCount;
+    private final int nominated;
+    private final int hasDossier;
+    private final int unkObject;
+
+    /**
+     * Constructs a new {@code RowBinder} for the given header.
+     *
+     * @param header A map from normalized header names to column indexes.
+     */
+    RowBinder(Map<String, Integer> header) {
+        recordId = column(header, "record_id");
+        satelliteName = column(header, "satellite_name");
+        country = column(header, "country");
+        orbitType = column(header, "approximate_orbit_type");
+        objectType = column(header, "object_type");
+        launchYear = column(header, "launch_year");
+        launchSite = column(header, "launch_site");
+        longitude = column(header, "longitude");
+        avgLongitude = column(header, "avg_longitude");
+        geohash = column(header, "geohash");
+        daysOld = column(header, "days_old");
+        conjunctionCount = column(header, "conjunction_count");
+        nominated = column(header, "is_nominated");
+        hasDossier = column(header, "has_dossier");
+        unkObject = column(header, "is_unk_object");
+    }
+
+    private static int column(Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the object type of the current record.
+     *
+     * @param csv A reader positioned on a record.
+     * @return The {@code object_type} value, or {@code null} if the header has no such column.
+     */
+    public String objectType(CsvReader csv) {
+        return text(csv, objectType);
+    }
+
+    /**
+     * Gets the record ID of the current record.
+     *
+     * @param csv A reader positioned on a record.
+     * @return The {@code record_id} value, or {@code null} if the header has no such column.
+     */
+    public String recordId(CsvReader csv) {
+        return text(csv, recordId);
+    }
+
+    /**
+     * Creates a space object from the current record.
+     *
+     * @param csv        A reader positioned on a record.
+     * @param objectType The record's object type, as returned by {@link #objectType(CsvReader)}.
+     * @return A new space object of the matching subclass.
+     */
+    public SpaceObject create(CsvReader csv, String objectType) {
+        SpaceObject obj = SpaceObjectFactory.getFactory(objectType).create(
+            text(csv, recordId),
+            text(csv, satelliteName),
+            text(csv, country),
+            text(csv, orbitType),
+            intValue(csv, launchYear),
+            text(csv, launchSite),
+            doubleValue(csv, longitude),
+            doubleValue(csv, avgLongitude),
+            text(csv, geohash),
+            intValue(csv, daysOld),
+            longValue(csv, conjunctionCount)
+        );
+        obj.setNominated(flag(csv, nominated));
+        obj.setHasDossier(flag(csv, hasDossier));
+        obj.setUnkObject(flag(csv, unkObject));
+        return obj;
+    }
+
+    private static String text(CsvReader csv, int column) {
+        return column < 0 ? null : csv.field(column);
+    }
+
+    // Numeric columns are parsed in place from the record buffer; empty cells cost no allocation.
+
+    private static int intValue(CsvReader csv, int column) {
+        return column < 0 || column >= csv.fieldCount() ? 0
+                : FieldParser.parseInt(csv.chars(), csv.start(column), csv.end(column), 0);
+    }
+
+    private static long longValue(CsvReader csv, int column) {
+        return column < 0 || column >= csv.fieldCount() ? 0L
+                : FieldParser.parseLong(csv.chars(), csv.start(column), csv.end(column), 0L);
+    }
+
+    private static boolean flag(CsvReader csv, int column) {
+        return column >= 0 && column < csv.fieldCount()
+                && FieldParser.parseBoolean(csv.chars(), csv.start(column), csv.end(column), false);
+    }
+
+    private static double doubleValue(CsvReader csv, int column) {
+        return column < 0 || column >= csv.fieldCount() ? 0.0
+                : FieldParser.parseDouble(csv.chars(), csv.start(column), csv.end(column), 0.0);
+    }
+}
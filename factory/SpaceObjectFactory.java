@@ -9,6 +9,10 @@ import java.util.Map;
 import model.SpaceObject;
 
 public abstract class SpaceObjectFactory {
+    private static final SpaceObjectFactory DEBRIS = new DebrisFactory();
+    private static final SpaceObjectFactory PAYLOAD = new PayloadFactory();
+    private static final SpaceObjectFactory ROCKET_BODY = new RocketBodyFactory();
+    private static final SpaceObjectFactory UNKNOWN = new UnknownFactory();
 
     /**
      * Creates a new {@code SpaceObject} using the provided data map.
@@ -19,19 +23,49 @@ public abstract class SpaceObjectFactory {
      */
     public abstract SpaceObject create(Map<String, String> data);
 
+    /**
+     * Creates a new {@code SpaceObject} from already parsed attribute values.
+     *
+     * @param recordId          The unique identifier for the space object.
+     * @param satelliteName     The name of the satellite associated with the space object.
+     * @param country           The country responsible for the space object.
+     * @param orbitType         The type of orbit the space object is in.
+     * @param launchYear        The year the space object was launched.
+     * @param launchSite        The site where the space object was launched.
+     * @param longitude         The longitude of the space object.
+     * @param avgLongitude      The average longitude of the space object.
+     * @param geohash           The geohash location of the space object.
+     * @param daysOld           The age of the space object in days.
+     * @param conjunctionCount  The number of conjunction events involving the space object.
+     * @return A new instance of {@code SpaceObject}.
+     */
+    public abstract SpaceObject create(String recordId, String satelliteName, String country, String orbitType,
+                                       int launchYear, String launchSite, double longitude,
+                                       double avgLongitude, String geohash, int daysOld, long conjunctionCount);
+
     /**
      * Retrieves a specific factory instance based on the type of space object.
+     * Factories are stateless, so one shared instance is returned per type.
      *
      * @param type The type of space object (e.g., "DEBRIS", "PAYLOAD", "ROCKET BODY").
      * @return A factory instance for creating the specified type of space object.
      */
     public static SpaceObjectFactory getFactory(String type) {
-        return switch (type.toUpperCase()) {
-            case "DEBRIS" -> new DebrisFactory();
-            case "PAYLOAD" -> new PayloadFactory();
-            case "ROCKET BODY" -> new RocketBodyFactory();
-            default -> new UnknownFactory();
-        };
+        if ("DEBRIS".equalsIgnoreCase(type)) return DEBRIS;
+        if ("PAYLOAD".equalsIgnoreCase(type)) return PAYLOAD;
+        if ("ROCKET BODY".equalsIgnoreCase(type)) return ROCKET_BODY;
+        return UNKNOWN;
+    }
+
+    /**
+     * Compiles a row binder for CSV files with the given header. Column names are resolved
+     * to indexes once, so rows in any column order are bound without per-row lookups.
+     *
+     * @param header A map from normalized header names to column indexes.
+     * @return A binder that creates space objects from records with this header.
+     */
+    public static RowBinder bind(Map<String, Integer> header) {
+        return new RowBinder(header);
     }
 }
 
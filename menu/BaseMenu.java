@@ -1,5 +1,7 @@
 package menu;
+import java.util.Iterator;
 import java.util.Scanner;
+import java.util.function.Consumer;
 
 
 /**
@@ -11,6 +13,7 @@ import java.util.Scanner;
  */
 public abstract class BaseMenu implements UserMenu {
     protected static final Scanner scanner = new Scanner(System.in);
+    protected static final int PAGE_SIZE = 50;
 
     /**
      * Reads and parses an integer input from the user.
@@ -36,6 +39,26 @@ public abstract class BaseMenu implements UserMenu {
         }
     }
 
+    /**
+     * Prints items one page at a time, asking before each further page so that long
+     * result lists are read lazily and can be stopped early.
+     * @param items The items to print.
+     * @param printer Prints a single item.
+     * @return The number of items printed.
+     */
+    protected <T> int printPaged(Iterator<? extends T> items, Consumer<? super T> printer) {
+        int printed = 0;
+        while (items.hasNext()) {
+            if (printed > 0 && printed % PAGE_SIZE == 0) {
+                System.out.print("-- Press Enter for more, or type q to stop: ");
+                if (scanner.nextLine().trim().equalsIgnoreCase("q")) break;
+            }
+            printer.accept(items.next());
+            printed++;
+        }
+        return printed;
+    }
+
     /**
      * Prints a numbered list of options with a given title.
      * @param title The title for the options menu.
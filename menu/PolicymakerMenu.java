@@ -1,4 +1,15 @@
 package menu;
+import java.util.List;
+import java.util.Map;
+
+import log.SystemLog;
+import model.AggregateCube;
+import model.AggregateCube.Aggregate;
+import model.AggregateCube.Dimension;
+import model.MissionRiskSimulator;
+import model.MissionRiskSimulator.RiskEstimate;
+import model.TrackingSystem;
+
 /**
  * PolicymakerMenu class provides a menu for policymakers to review debris reports
  * and assess risk levels for future space missions. Extends BaseMenu for shared functionality.
@@ -6,6 +17,18 @@ package menu;
  * @author Noel Lozano
  */
 public class PolicymakerMenu extends BaseMenu {
+    /** The chance of colliding with one piece of debris sharing a one-degree cell for a day. */
+    private static final double ENCOUNTER_PROBABILITY = 1e-4;
+
+    private TrackingSystem trackingSystem;
+
+    /**
+     * Constructs a PolicymakerMenu with the given TrackingSystem instance.
+     * @param trackingSystem the tracking system to report on.
+     */
+    public PolicymakerMenu(TrackingSystem trackingSystem) {
+        this.trackingSystem = trackingSystem;
+    }
 
     /**
      * Displays the policymaker's menu options and handles user input.
@@ -26,16 +49,64 @@ public class PolicymakerMenu extends BaseMenu {
     }
 
     /**
-     * Simulates reviewing reports on debris impact.
+     * Prints a summary dashboard of the catalog: totals per object type, per orbit type and
+     * per country and orbit type, all read from the maintained aggregate cube.
      */
     private void reviewReports() {
-        System.out.println("[Stub] Reviewing reports on debris impact...");
+        System.out.println("\n--- Debris Impact Summary ---");
+        AggregateCube cube = trackingSystem.getAggregateCube();
+        Aggregate total = cube.total();
+        System.out.printf("Tracked Objects: %d, Mean Days Old: %.1f, Total Conjunctions: %d%n",
+                total.getCount(), total.getAverageDaysOld(), total.getTotalConjunctions());
+
+        System.out.println("\nBy Object Type:");
+        printGroups(cube.groupBy(Dimension.OBJECT_TYPE));
+        System.out.println("\nBy Orbit Type:");
+        printGroups(cube.groupBy(Dimension.ORBIT_TYPE));
+        System.out.println("\nBy Country and Orbit Type:");
+        printGroups(cube.groupBy(Dimension.COUNTRY, Dimension.ORBIT_TYPE));
+        SystemLog.log("Debris impact summary reviewed by Policymaker.");
     }
 
     /**
-     * Simulates assessing risk levels for future missions.
+     * Prints one line per group, a page at a time.
+     */
+    private void printGroups(Map<List<String>, Aggregate> groups) {
+        printPaged(groups.entrySet().iterator(), entry -> System.out.printf(
+                "%-24s Objects: %d, Mean Days Old: %.1f, Total Conjunctions: %d%n",
+                String.join(" / ", entry.getKey().stream().map(v -> v == null || v.isEmpty() ? "(none)" : v).toList()),
+                entry.getValue().getCount(), entry.getValue().getAverageDaysOld(), entry.getValue().getTotalConjunctions()
+        ));
+    }
+
+    /**
+     * Assesses the collision risk of a future mission by simulating many missions against
+     * the tracked debris of the mission's orbit type.
      */
     private void assessRiskLevels() {
-        System.out.println("[Stub] Assessing risk levels for future missions...");
+        System.out.println("\n--- Mission Risk Assessment ---");
+        System.out.print("Enter mission orbit type (e.g. LEO): ");
+        String orbitType = scanner.nextLine().trim();
+        System.out.print("Enter mission duration in days: ");
+        int missionDays = getInput();
+        System.out.print("Enter number of simulated missions: ");
+        int trials = getInput();
+        System.out.print("Enter random seed: ");
+        int seed = getInput();
+        if (orbitType.isEmpty() || missionDays <= 0 || trials <= 0) {
+            System.out.println("Orbit type, mission duration and number of missions are required.");
+            return;
+        }
+
+        MissionRiskSimulator simulator = new MissionRiskSimulator(trackingSystem.getColumnarCatalog(),
+                orbitType, ENCOUNTER_PROBABILITY);
+        RiskEstimate estimate = simulator.simulate(missionDays, trials, seed);
+        System.out.printf("Debris Population (%s): %d%n", orbitType.toUpperCase(), simulator.population());
+        System.out.printf("Simulated Missions: %d, Collisions: %d%n", estimate.getTrials(), estimate.getCollisions());
+        System.out.printf("Collision Probability: %.4f%% (95%% CI %.4f%% - %.4f%%)%n", estimate.getProbability() * 100,
+                estimate.getLowerBound() * 100, estimate.getUpperBound() * 100);
+        System.out.printf("Mean Debris Encounters per Mission: %.2f%n", estimate.getMeanEncounters());
+        System.out.println("Risk Level: " + estimate.getRiskLevel());
+        SystemLog.log("Mission risk assessed by Policymaker for " + orbitType.toUpperCase() + ".");
     }
 }
@@ -1,7 +1,16 @@
 package menu;
 import java.util.*;
 import log.SystemLog;
+import model.CatalogQuery;
+import model.BitmapIndex;
+import model.ColumnarCatalog;
 import model.Debris;
+import model.DebrisAssessment;
+import model.DebrisAssessor;
+import model.DriftPropagator;
+import model.RiskLevel;
+import model.RiskModel;
+import model.Satellite;
 import model.TrackingSystem;
 import model.SpaceObject;
 import java.io.*;
@@ -51,8 +60,7 @@ public class ScientistMenu extends BaseMenu {
             int choice = getInput();
             if (choice >= 1 && choice <= 4) {
                 String type = types[choice - 1].toUpperCase();
-                List<SpaceObject> objects = trackingSystem.getObjectsByType(type);
-                displayObjects(objects);
+                displayObjects(trackingSystem.query().objectType(type));
                 SystemLog.log("Scientist tracked " + type.toLowerCase() + " in space.");
             } else if (choice == 5) {
                 return;
@@ -67,13 +75,17 @@ public class ScientistMenu extends BaseMenu {
      */
     private void assessOrbitStatusMenu() {
         while (true) {
-            String[] options = {"Track Objects in LEO", "Assess if debris is still in orbit", "Back"};
+            String[] options = {"Track Objects in LEO", "Assess if debris is still in orbit",
+                    "Rank objects by conjunctions and drift", "Forecast debris drift", "Screen for conjunctions", "Back"};
             printOptions("Assess Orbit Status", options);
             int choice = getInput();
             switch (choice) {
                 case 1 -> trackLEOObjects();
                 case 2 -> assessDebrisOrbitStatus();
-                case 3 -> { return; }
+                case 3 -> rankObjects();
+                case 4 -> forecastDebrisDrift();
+                case 5 -> screenConjunctions();
+                case 6 -> { return; }
                 default -> System.out.println("Invalid option. Try again.");
             }
         }
@@ -83,77 +95,164 @@ public class ScientistMenu extends BaseMenu {
      * Tracks and displays all objects currently in Low Earth Orbit (LEO).
      */
     private void trackLEOObjects() {
-        List<SpaceObject> leoObjects = new ArrayList<>();
-        for (String type : new String[]{"DEBRIS", "PAYLOAD", "ROCKET BODY", "UNKNOWN"}) {
-            for (SpaceObject obj : trackingSystem.getObjectsByType(type)) {
-                if ("LEO".equalsIgnoreCase(obj.getOrbitType())) leoObjects.add(obj);
-            }
-        }
-        displayObjects(leoObjects);
+        displayObjects(trackingSystem.query().orbitType("LEO"));
         SystemLog.log("Scientist assessed objects in LEO.");
     }
 
     /**
-     * Assesses the orbit status of debris, generates CSV and TXT reports.
+     * Displays the objects with the most conjunctions and the largest longitude drift, for a
+     * user-provided number of objects.
      */
-    private void assessDebrisOrbitStatus() {
-        List<SpaceObject> debrisList = trackingSystem.getObjectsByType("DEBRIS");
-        int inOrbit = 0, exited = 0;
-        List<SpaceObject> exitedDebris = new ArrayList<>();
-
-        try (PrintWriter csvOut = new PrintWriter("assessed_debris.csv");
-             PrintWriter txtOut = new PrintWriter("exited_debris_summary.txt")) {
-
-            csvOut.println("RecordID,SatelliteName,Country,OrbitType,LaunchYear,LaunchSite,Longitude,AvgLongitude,Geohash,DaysOld,ConjunctionCount,StillInOrbit,RiskLevel");
-
-            for (SpaceObject obj : debrisList) {
-                Debris d = (Debris) obj;
-                boolean stillInOrbit = d.getOrbitType() != null && !d.getOrbitType().isEmpty()
-                        && d.getLongitude() != 0 && d.getDaysOld() < 15000 && d.getConjunctionCount() >= 1;
-                d.setStillInOrbit(stillInOrbit);
-                if (stillInOrbit) inOrbit++;
-                else {
-                    exited++;
-                    exitedDebris.add(d);
-                }
+    private void rankObjects() {
+        System.out.print("Enter number of objects to rank: ");
+        int k = getInput();
+        if (k <= 0) {
+            System.out.println("Number of objects must be positive.");
+            return;
+        }
 
-                double drift = Math.abs(d.getLongitude() - d.getAvgLongitude());
-                String risk = drift > 50 ? "High" : drift > 10 ? "Moderate" : "Low";
-                d.setRiskLevel(risk);
+        System.out.println("\n--- Most Conjunctions ---");
+        int rank = 1;
+        for (SpaceObject obj : trackingSystem.topByConjunctions(k)) {
+            System.out.printf("%d. Record ID: %s, Satellite Name: %s, Object Type: %s, Conjunctions: %d%n",
+                    rank++, obj.getRecordId(), obj.getSatelliteName(), obj.getObjectType(), obj.getConjunctionCount());
+        }
+        System.out.println("\n--- Largest Longitude Drift ---");
+        rank = 1;
+        for (SpaceObject obj : trackingSystem.topByDrift(k)) {
+            System.out.printf("%d. Record ID: %s, Satellite Name: %s, Object Type: %s, Drift: %.2f%n",
+                    rank++, obj.getRecordId(), obj.getSatelliteName(), obj.getObjectType(), obj.getLongitudeDrift());
+        }
+        SystemLog.log("Scientist ranked objects by conjunctions and drift.");
+    }
 
-                csvOut.printf("%s,%s,%s,%s,%d,%s,%.2f,%.2f,%s,%d,%d,%b,%s%n",
-                        d.getRecordId(), d.getSatelliteName(), d.getCountry(), d.getOrbitType(),
-                        d.getLaunchYear(), d.getLaunchSite(), d.getLongitude(), d.getAvgLongitude(),
-                        d.getGeohash(), d.getDaysOld(), d.getConjunctionCount(), d.isStillInOrbit(), d.getRiskLevel());
-            }
+    /**
+     * Propagates the debris drift to a user-provided horizon and compares the drift risk
+     * levels of today with the forecast, followed by the debris drifting furthest.
+     */
+    private void forecastDebrisDrift() {
+        System.out.print("Enter forecast horizon in days: ");
+        double horizon = getDoubleInput();
+        System.out.print("Enter time step in days: ");
+        double step = getDoubleInput();
+        if (horizon < 0 || step <= 0) {
+            System.out.println("Horizon must not be negative and the time step must be positive.");
+            return;
+        }
 
-            txtOut.printf("In-Orbit Debris Count: %d%n", inOrbit);
-            txtOut.printf("Exited Debris Count: %d%n%n", exited);
-            txtOut.println("Exited Debris Information:");
-            for (SpaceObject d : exitedDebris) {
-                txtOut.printf("ID: %s | Name: %s | Country: %s | Orbit: %s | Year: %d | Site: %s | Long: %.2f | AvgLong: %.2f | Geo: %s | DaysOld: %d%n",
-                        d.getRecordId(), d.getSatelliteName(), d.getCountry(), d.getOrbitType(),
-                        d.getLaunchYear(), d.getLaunchSite(), d.getLongitude(), d.getAvgLongitude(),
-                        d.getGeohash(), d.getDaysOld());
-            }
+        ColumnarCatalog catalog = trackingSystem.getColumnarCatalog();
+        int[] debrisRows = BitmapIndex.rows(trackingSystem.getBitmapIndex().objectType("DEBRIS"));
+        DriftPropagator propagator = new DriftPropagator(catalog, debrisRows);
+        int highNow = propagator.countDriftAbove(50), moderateNow = propagator.countDriftAbove(10) - highNow;
+        propagator.propagate(horizon, step);
+        int high = propagator.countDriftAbove(50), moderate = propagator.countDriftAbove(10) - high;
+
+        System.out.printf("%n--- Debris Drift Forecast (%.0f days) ---%n", propagator.elapsedDays());
+        System.out.printf("%-10s %10s %10s%n", "Risk", "Today", "Forecast");
+        System.out.printf("%-10s %10d %10d%n", "High", highNow, high);
+        System.out.printf("%-10s %10d %10d%n", "Moderate", moderateNow, moderate);
+        System.out.printf("%-10s %10d %10d%n", "Low", propagator.size() - highNow - moderateNow,
+                propagator.size() - high - moderate);
+
+        System.out.println("\nLargest Forecast Drift:");
+        for (int i : propagator.topByDrift(10)) {
+            SpaceObject obj = propagator.object(i);
+            System.out.printf("Record ID: %s, Satellite Name: %s, Longitude: %.2f, Drift: %.2f (%s), Days Old: %d%n",
+                    obj.getRecordId(), obj.getSatelliteName(), propagator.longitude(i), propagator.drift(i),
+                    DebrisAssessor.riskLevel(propagator.drift(i)), propagator.daysOld(i));
+        }
+        SystemLog.log("Scientist forecast debris drift.");
+    }
+
+    /**
+     * Recomputes the conjunction counts of the catalog from object positions with a
+     * user-provided screening distance, then shows the objects with the most conjunctions.
+     */
+    private void screenConjunctions() {
+        System.out.print("Enter screening distance in degrees: ");
+        double distance = getDoubleInput();
+        if (distance <= 0) {
+            System.out.println("Screening distance must be positive.");
+            return;
+        }
 
-            System.out.println("Orbit assessment completed. Files generated.");
-            SystemLog.log("Scientist assessed Debris orbit status.");
-        } catch (IOException e) {
-            System.err.println("Failed to write output: " + e.getMessage());
+        int changed = trackingSystem.screenConjunctions(distance);
+        System.out.printf("%nConjunction screening completed. Updated Objects: %d%n", changed);
+        System.out.println("\n--- Most Conjunctions ---");
+        for (SpaceObject obj : trackingSystem.topByConjunctions(10)) {
+            System.out.printf("Record ID: %s, Satellite Name: %s, Orbit: %s, Conjunctions: %d%n",
+                    obj.getRecordId(), obj.getSatelliteName(), obj.getOrbitType(), obj.getConjunctionCount());
         }
+        SystemLog.log("Scientist screened the catalog for conjunctions.");
     }
 
     /**
-     * Displays the list of space objects.
-     * @param list List of space objects to display.
+     * Assesses the orbit status of debris, generates CSV and TXT reports. The assessment is
+     * kept by the tracking system, so only debris added or modified since the last assessment
+     * is reassessed, scored by every built-in risk model in one pass, and only its CSV rows are
+     * reformatted. The reports are left as they are when nothing changed. Both reports list
+     * debris in catalog order, whatever the order of earlier edits. The drift model decides
+     * the reported risk level, and the level counts of all models are shown for comparison.
      */
-    private void displayObjects(List<SpaceObject> list) {
-        for (SpaceObject obj : list) {
-            System.out.printf("ID: %s | Name: %s | Country: %s | Orbit: %s | Year: %d | Site: %s | Long: %.2f | AvgLong: %.2f | Geo: %s | DaysOld: %d%n",
-                    obj.getRecordId(), obj.getSatelliteName(), obj.getCountry(), obj.getOrbitType(),
-                    obj.getLaunchYear(), obj.getLaunchSite(), obj.getLongitude(), obj.getAvgLongitude(),
-                    obj.getGeohash(), obj.getDaysOld());
+    private void assessDebrisOrbitStatus() {
+        DebrisAssessment assessment = trackingSystem.assessDebris();
+        File csvFile = new File("assessed_debris.csv"), txtFile = new File("exited_debris_summary.txt");
+        if (!assessment.isChanged() && csvFile.exists() && txtFile.exists()) {
+            System.out.println("Orbit assessment completed. No debris changed; files are up to date.");
+        } else {
+            try (PrintWriter csvOut = new PrintWriter(csvFile);
+                 PrintWriter txtOut = new PrintWriter(txtFile)) {
+
+                csvOut.println("RecordID,SatelliteName,Country,OrbitType,LaunchYear,LaunchSite,Longitude,AvgLongitude,Geohash,DaysOld,ConjunctionCount,StillInOrbit,RiskLevel");
+                for (int i = 0; i < assessment.size(); i++) {
+                    csvOut.println(assessment.reportRow(i, d -> String.format("%s,%s,%s,%s,%d,%s,%.2f,%.2f,%s,%d,%d,%b,%s",
+                            d.getRecordId(), d.getSatelliteName(), d.getCountry(), d.getOrbitType(),
+                            d.getLaunchYear(), d.getLaunchSite(), d.getLongitude(), d.getAvgLongitude(),
+                            d.getGeohash(), d.getDaysOld(), d.getConjunctionCount(), d.isStillInOrbit(), d.getRiskLevel())));
+                }
+
+                txtOut.printf("In-Orbit Debris Count: %d%n", assessment.inOrbitCount());
+                txtOut.printf("Exited Debris Count: %d%n%n", assessment.exitedCount());
+                txtOut.println("Exited Debris Information:");
+                for (Debris d : assessment.exited()) {
+                    txtOut.printf("ID: %s | Name: %s | Country: %s | Orbit: %s | Year: %d | Site: %s | Long: %.2f | AvgLong: %.2f | Geo: %s | DaysOld: %d%n",
+                            d.getRecordId(), d.getSatelliteName(), d.getCountry(), d.getOrbitType(),
+                            d.getLaunchYear(), d.getLaunchSite(), d.getLongitude(), d.getAvgLongitude(),
+                            d.getGeohash(), d.getDaysOld());
+                }
+                System.out.printf("Orbit assessment completed. Reassessed Debris: %d. Files generated.%n",
+                        assessment.reassessed());
+            } catch (IOException e) {
+                System.err.println("Failed to write output: " + e.getMessage());
+                return;
+            }
         }
+
+        System.out.printf("%n%-22s %10s %10s %10s%n", "Risk Model", "High", "Moderate", "Low");
+        List<RiskModel> models = assessment.pipeline().models();
+        for (int m = 0; m < models.size(); m++) {
+            System.out.printf("%-22s %10d %10d %10d%n", models.get(m).name(), assessment.count(m, RiskLevel.HIGH),
+                    assessment.count(m, RiskLevel.MODERATE), assessment.count(m, RiskLevel.LOW));
+        }
+        SystemLog.log("Scientist assessed Debris orbit status.");
+    }
+
+    /**
+     * Displays the results of a query page by page, reading them lazily from a cursor.
+     * @param query The query whose results to display.
+     */
+    private void displayObjects(CatalogQuery query) {
+        printPaged(query.cursor(), this::displayObject);
+    }
+
+    /**
+     * Displays a single space object.
+     * @param obj The space object to display.
+     */
+    private void displayObject(Satellite obj) {
+        System.out.printf("ID: %s | Name: %s | Country: %s | Orbit: %s | Year: %d | Site: %s | Long: %.2f | AvgLong: %.2f | Geo: %s | DaysOld: %d%n",
+                obj.getRecordId(), obj.getSatelliteName(), obj.getCountry(), obj.getOrbitType(),
+                obj.getLaunchYear(), obj.getLaunchSite(), obj.getLongitude(), obj.getAvgLongitude(),
+                obj.getGeohash(), obj.getDaysOld());
     }
 }
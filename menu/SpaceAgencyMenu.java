@@ -1,127 +1,77 @@
 package menu;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Comparator;
 
 import log.SystemLog;
+import model.CatalogQuery;
+import model.CatalogView;
+import model.SpaceObject;
+import model.TrackingSystem;
 
 /**
  * SpaceAgencyMenu class provides a menu for space agency representatives to
- * analyze long-term impacts and generate density reports from a CSV database.
+ * analyze long-term impacts and generate density reports from the tracked catalog.
  * Extends BaseMenu for shared functionality.
  * 
  * @author Noel Lozano
  */
 public class SpaceAgencyMenu extends BaseMenu {
-    private static final String CSV_FILE = "rso_metrics.csv"; // Path to your CSV file
+    private static final String LONG_TERM_IMPACT_VIEW = "long-term impact";
+
+    private TrackingSystem trackingSystem;
+    private CatalogView longTermImpact;
+
+    /**
+     * Constructs a SpaceAgencyMenu with the given TrackingSystem instance and registers the
+     * long-term impact view it reports from.
+     * @param trackingSystem the tracking system to query.
+     */
+    public SpaceAgencyMenu(TrackingSystem trackingSystem) {
+        this.trackingSystem = trackingSystem;
+        this.longTermImpact = trackingSystem.registerView(LONG_TERM_IMPACT_VIEW,
+                obj -> obj.hasOrbitType("LEO") && obj.getDaysOld() > 200 && obj.getConjunctionCount() > 0);
+    }
 
     /**
      * Displays the space agency representative's menu and handles user input.
      */
     @Override
     public void showMenu() {
-        String[] options = {"Analyze Long-term Impact", "Generate Density Reports", "Back"};
+        String[] options = {"Analyze Long-term Impact", "Generate Density Reports", "Sweep Longitude Bands",
+                "Generate Regional Density Report", "Back"};
         while (true) {
             printOptions("Space Agency Representative Menu", options);
             int choice = getInput();
             switch (choice) {
                 case 1 -> analyzeLongTermImpact();
                 case 2 -> generateDensityReports();
-                case 3 -> { return; }
+                case 3 -> sweepLongitudeBands();
+                case 4 -> generateRegionalReport();
+                case 5 -> { return; }
                 default -> System.out.println("Invalid option. Try again.");
             }
         }
     }
 
     /**
-     * Analyzes the long-term impact of space debris based on CSV data.
+     * Analyzes the long-term impact of space debris: LEO objects older than 200 days
+     * that have been involved in at least one conjunction, read from the maintained view.
      */
     private void analyzeLongTermImpact() {
         System.out.println("\n--- Analyzing Long-term Impact ---");
 
-        try (BufferedReader br = new BufferedReader(new FileReader(CSV_FILE))) {
-            String header = br.readLine();
-            if (header == null) {
-                System.out.println("CSV file is empty.");
-                return;
-            }
-
-            String[] headers = header.split(",", -1);
-            Map<String, Integer> indexMap = new HashMap<>();
-            for (int i = 0; i < headers.length; i++) {
-                String cleanName = headers[i].trim().toLowerCase()
-                    .replace("?", "")
-                    .replace("\"", "")
-                    .replace(" ", "_")
-                    .replaceAll("[^a-z0-9_]", "");
-                indexMap.put(cleanName, i);
-            }
-
-            // Confirm some basic required columns exist
-            String[] basicFields = {"record_id", "satellite_name", "country", "approximate_orbit_type", "object_type"};
-            for (String key : basicFields) {
-                if (!indexMap.containsKey(key)) {
-                    System.out.println("Missing required column: " + key);
-                    return;
-                }
-            }
-
-            String line;
-            boolean found = false;
-
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",", -1);
-                if (parts.length <= 20) continue; // ensure safe access to parts[19] and parts[20]
-
-                // Use confirmed indexes
-                String rawDaysOld = parts[19];              // days_old
-                String rawConjunctionCount = parts[20];     // conjunction_count
-                String orbitType = parts[indexMap.get("approximate_orbit_type")].trim();
+        int printed = printPaged(longTermImpact.objects().iterator(), obj -> System.out.printf(
+                "Record ID: %s, Satellite Name: %s, Country: %s, Orbit: %s, Object Type: %s, Days Old: %d, Conjunctions: %d%n",
+                obj.getRecordId(), obj.getSatelliteName(), obj.getCountry(), obj.getOrbitType(),
+                obj.getObjectType(), obj.getDaysOld(), obj.getConjunctionCount()
+        ));
 
-                int daysOld = parseIntSafe(rawDaysOld);
-                int conjunctionCount = parseIntSafe(rawConjunctionCount);
-
-                // Debug print
-                System.out.printf("DEBUG: Orbit=%s, DaysOld=%d, Conjunctions=%d%n", orbitType, daysOld, conjunctionCount);
-
-                if ("LEO".equalsIgnoreCase(orbitType) && daysOld > 200 && conjunctionCount > 0) {
-                    String recordId = parts[indexMap.get("record_id")].trim();
-                    String satelliteName = parts[indexMap.get("satellite_name")].trim();
-                    String country = parts[indexMap.get("country")].trim();
-                    String objectType = parts[indexMap.get("object_type")].trim();
-
-                    System.out.printf(
-                        "Record ID: %s, Satellite Name: %s, Country: %s, Orbit: %s, Object Type: %s, Days Old: %d, Conjunctions: %d%n",
-                        recordId, satelliteName, country, orbitType, objectType, daysOld, conjunctionCount
-                    );
-                    found = true;
-                }
-            }
-
-            if (!found) {
-                System.out.println("No matching LEO debris objects found with daysOld > 200 and conjunctionCount > 0.");
-            } else {
-                SystemLog.log("Long-term impact analysis completed by Space Agent.");
-            }
-
-        } catch (Exception e) {
-            System.out.println("Error reading CSV: " + e.getMessage());
-            e.printStackTrace();
+        if (printed == 0) {
+            System.out.println("No matching LEO debris objects found with daysOld > 200 and conjunctionCount > 0.");
+        } else {
+            SystemLog.log("Long-term impact analysis completed by Space Agent.");
         }
     }
 
-
-
-
-
-
-
-
-
-
-
-
     /**
      * Generates a density report based on user-provided longitude range.
      */
@@ -132,78 +82,64 @@ public class SpaceAgencyMenu extends BaseMenu {
         System.out.print("Enter maximum longitude: ");
         double maxLongitude = getDoubleInput();
 
-        int count = 0;
-
-        try (BufferedReader br = new BufferedReader(new FileReader(CSV_FILE))) {
-            String header = br.readLine();
-            if (header == null) {
-                System.out.println("CSV file is empty.");
-                return;
-            }
-
-            String[] headers = header.split(",", -1);
-            Map<String, Integer> indexMap = new HashMap<>();
-            for (int i = 0; i < headers.length; i++) {
-                String cleanName = headers[i].trim().toLowerCase().replaceAll("[^a-z0-9_]", "");
-                indexMap.put(cleanName, i);
-            }
-
-            String[] required = {
-                "longitude", "record_id", "satellite_name", "country",
-                "approximate_orbit_type", "launch_year", "object_type"
-            };
-            for (String key : required) {
-                if (!indexMap.containsKey(key)) {
-                    System.out.println("Missing column: " + key);
-                    return;
-                }
-            }
-
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",", -1);
-                if (parts.length < headers.length) continue;
-
-                double longitude = parseDoubleSafe(parts[indexMap.get("longitude")]);
-
-                if (longitude >= minLongitude && longitude <= maxLongitude) {
-                    count++;
-                    String recordId = parts[indexMap.get("record_id")].trim();
-                    String satelliteName = parts[indexMap.get("satellite_name")].trim();
-                    String country = parts[indexMap.get("country")].trim();
-                    String orbitType = parts[indexMap.get("approximate_orbit_type")].trim();
-                    int launchYear = parseIntSafe(parts[indexMap.get("launch_year")]);
-                    String objectType = parts[indexMap.get("object_type")].trim();
-
-                    System.out.printf(
-                        "Record ID: %s, Satellite Name: %s, Country: %s, Orbit: %s, Launch Year: %d, Object Type: %s%n",
-                        recordId, satelliteName, country, orbitType, launchYear, objectType
-                    );
-                }
-            }
+        CatalogQuery query = trackingSystem.query()
+                .longitudeBetween(minLongitude, maxLongitude)
+                .sortBy(Comparator.comparingDouble(SpaceObject::getLongitude));
+        printPaged(query.cursor(), obj -> System.out.printf(
+                "Record ID: %s, Satellite Name: %s, Country: %s, Orbit: %s, Launch Year: %d, Object Type: %s%n",
+                obj.getRecordId(), obj.getSatelliteName(), obj.getCountry(), obj.getOrbitType(),
+                obj.getLaunchYear(), obj.getObjectType()
+        ));
+
+        System.out.println("\nTotal Objects in Range: " + query.count());
+        SystemLog.log("Density Report Generated by Space Agent.");
+    }
 
-            System.out.println("\nTotal Objects in Range: " + count);
-            SystemLog.log("Density Report Generated by Space Agent.");
+    /**
+     * Prints object counts for consecutive longitude bands of a user-provided width.
+     */
+    private void sweepLongitudeBands() {
+        System.out.println("\n--- Longitude Band Sweep ---");
+        System.out.print("Enter band width in degrees: ");
+        double width = getDoubleInput();
+        if (width <= 0) {
+            System.out.println("Band width must be positive.");
+            return;
+        }
 
-        } catch (Exception e) {
-            System.out.println("Error reading CSV: " + e.getMessage());
+        for (double start = -180; start < 180; start += width) {
+            double end = Math.min(start + width, 180);
+            // Bands are half-open except the last, so each object is counted once.
+            int count = trackingSystem.query()
+                    .longitudeBetween(start, end >= 180 ? end : Math.nextDown(end))
+                    .count();
+            System.out.printf("[%7.2f, %7.2f%s: %d%n", start, end, end >= 180 ? "]" : ")", count);
         }
+        SystemLog.log("Longitude band sweep generated by Space Agent.");
     }
 
+    /**
+     * Generates a density report for objects positioned in a user-provided bounding box.
+     */
+    private void generateRegionalReport() {
+        System.out.println("\n--- Regional Density Report ---");
+        System.out.print("Enter minimum latitude: ");
+        double minLatitude = getDoubleInput();
+        System.out.print("Enter maximum latitude: ");
+        double maxLatitude = getDoubleInput();
+        System.out.print("Enter minimum longitude: ");
+        double minLongitude = getDoubleInput();
+        System.out.print("Enter maximum longitude: ");
+        double maxLongitude = getDoubleInput();
 
-    private int parseIntSafe(String s) {
-        try {
-            return Integer.parseInt(s.trim());
-        } catch (Exception e) {
-            return 0;
-        }
-    }
+        CatalogQuery query = trackingSystem.query().inRegion(minLatitude, minLongitude, maxLatitude, maxLongitude);
+        printPaged(query.cursor(), obj -> System.out.printf(
+                "Record ID: %s, Satellite Name: %s, Country: %s, Position: %s, Object Type: %s%n",
+                obj.getRecordId(), obj.getSatelliteName(), obj.getCountry(), obj.getGeohash(),
+                obj.getObjectType()
+        ));
 
-    private double parseDoubleSafe(String s) {
-        try {
-            return Double.parseDouble(s.trim());
-        } catch (Exception e) {
-            return 0;
-        }
+        System.out.println("\nTotal Objects in Region: " + query.count());
+        SystemLog.log("Regional density report generated by Space Agent.");
     }
 }
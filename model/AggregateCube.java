@@ -0,0 +1,268 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * The {@code AggregateCube} class maintains pre-aggregated counts and totals of the tracked
+ * objects grouped by country, orbit type and object type. One small table of cells is kept
+ * for every subset of the three dimensions, keyed by the dictionary codes of the grouped
+ * values, so any slice or roll-up is answered from the cells of a single table instead of a
+ * pass over the catalog. Each catalog change updates one cell in each of the eight tables.
+ *
+ * <p>The cube is created with {@link TrackingSystem#getAggregateCube()} and kept up to date as
+ * a {@link CatalogListener}. Values are grouped and matched case-insensitively through their
+ * folded dictionary codes; a group is labelled with the first spelling the catalog used.</p>
+ */
+public class AggregateCube implements CatalogListener {
+    private static final int CODE_BITS = 21;
+
+    /**
+     * The attributes objects are grouped by.
+     */
+    public enum Dimension {
+        /** The object's country. */
+        COUNTRY(CatalogDictionaries.COUNTRIES, SpaceObject::getCountryCode),
+        /** The object's approximate orbit type. */
+        ORBIT_TYPE(CatalogDictionaries.ORBIT_TYPES, SpaceObject::getOrbitTypeCode),
+        /** The object type the object is filed under. */
+        OBJECT_TYPE(CatalogDictionaries.OBJECT_TYPES, SpaceObject::getObjectTypeCode);
+
+        private final StringDictionary dictionary;
+        private final ToIntFunction<SpaceObject> code;
+
+        Dimension(StringDictionary dictionary, ToIntFunction<SpaceObject> code) {
+            this.dictionary = dictionary;
+            this.code = code;
+        }
+
+        private int foldedCode(SpaceObject obj) {
+            return dictionary.foldedCode(code.applyAsInt(obj));
+        }
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    private static final Dimension[] DIMENSIONS = Dimension.values();
+
+    /** The cells of every cuboid, indexed by the bit mask of its grouped dimensions. */
+    private final List<Map<Long, long[]>> cuboids = new ArrayList<>(1 << DIMENSIONS.length);
+
+    /**
+     * Constructs an empty cube.
+     */
+    AggregateCube() {
+        for (int mask = 0; mask < 1 << DIMENSIONS.length; mask++) cuboids.add(new HashMap<>());
+    }
+
+    @Override
+    public void objectAdded(SpaceObject obj) {
+        update(obj, 1);
+    }
+
+    @Override
+    public void objectRemoved(SpaceObject obj) {
+        update(obj, -1);
+    }
+
+    private void update(SpaceObject obj, int sign) {
+        int[] codes = new int[DIMENSIONS.length];
+        for (Dimension dimension : DIMENSIONS) codes[dimension.ordinal()] = dimension.foldedCode(obj);
+        for (int mask = 0; mask < cuboids.size(); mask++) {
+            long key = key(codes, mask);
+            long[] cell = cuboids.get(mask).computeIfAbsent(key, k -> new long[3]);
+            cell[0] += sign;
+            cell[1] += sign * (long) obj.getDaysOld();
+            cell[2] += sign * obj.getConjunctionCount();
+            if (cell[0] == 0) cuboids.get(mask).remove(key);
+        }
+    }
+
+    /**
+     * Packs the codes of the dimensions in {@code mask} into a cell key.
+     */
+    private static long key(int[] codes, int mask) {
+        long key = 0;
+        for (int d = 0; d < codes.length; d++) {
+            if ((mask & 1 << d) != 0) key |= (long) codes[d] << d * CODE_BITS;
+        }
+        return key;
+    }
+
+    private static int code(long key, int dimension) {
+        return (int) (key >>> dimension * CODE_BITS) & ((1 << CODE_BITS) - 1);
+    }
+
+    /**
+     * Gets the aggregate of every tracked object.
+     *
+     * @return The catalog totals.
+     */
+    public Aggregate total() {
+        return aggregate(Map.of());
+    }
+
+    /**
+     * Gets the aggregate of one slice of the cube, e.g. every LEO object from "CIS". This is a
+     * single cell lookup.
+     *
+     * @param slice The value each sliced dimension must have; dimensions not in the map are
+     *              rolled up.
+     * @return The aggregate of the matching objects, empty if there are none.
+     */
+    public Aggregate aggregate(Map<Dimension, String> slice) {
+        int[] codes = sliceCodes(slice);
+        if (codes == null) return Aggregate.EMPTY;
+        long[] cell = cuboids.get(mask(slice.keySet())).get(key(codes, mask(slice.keySet())));
+        return cell == null ? Aggregate.EMPTY : new Aggregate(cell);
+    }
+
+    /**
+     * Groups the tracked objects by some dimensions, e.g. objects per country per orbit type.
+     *
+     * @param dimensions The dimensions to group by.
+     * @return The aggregate of every non-empty group, keyed by the group's values in the order
+     *         of {@code dimensions}, largest groups first.
+     */
+    public Map<List<String>, Aggregate> groupBy(Dimension... dimensions) {
+        return groupBy(Map.of(), dimensions);
+    }
+
+    /**
+     * Groups one slice of the cube by some dimensions, e.g. LEO objects per country. Only the
+     * cells of the table holding both the sliced and the grouped dimensions are read.
+     *
+     * @param slice      The value each sliced dimension must have.
+     * @param dimensions The dimensions to group by.
+     * @return The aggregate of every non-empty group, keyed by the group's values in the order
+     *         of {@code dimensions}, largest groups first.
+     */
+    public Map<List<String>, Aggregate> groupBy(Map<Dimension, String> slice, Dimension... dimensions) {
+        int[] codes = sliceCodes(slice);
+        if (codes == null) return Collections.emptyMap();
+        int sliceMask = mask(slice.keySet());
+        int mask = sliceMask | mask(Arrays.asList(dimensions));
+        long sliceKey = key(codes, sliceMask);
+        long sliceBits = key(filled(-1), sliceMask);
+
+        Map<List<String>, long[]> groups = new HashMap<>();
+        for (Map.Entry<Long, long[]> entry : cuboids.get(mask).entrySet()) {
+            long key = entry.getKey();
+            if ((key & sliceBits) != sliceKey) continue;
+            String[] values = new String[dimensions.length];
+            for (int i = 0; i < dimensions.length; i++) {
+                values[i] = dimensions[i].dictionary.decode(code(key, dimensions[i].ordinal()));
+            }
+            long[] group = groups.computeIfAbsent(Collections.unmodifiableList(Arrays.asList(values)), k -> new long[3]);
+            long[] cell = entry.getValue();
+            for (int i = 0; i < 3; i++) group[i] += cell[i];
+        }
+
+        List<Map.Entry<List<String>, long[]>> sorted = new ArrayList<>(groups.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<List<String>, long[]> e) -> -e.getValue()[0])
+                .thenComparing(e -> e.getKey().toString()));
+        Map<List<String>, Aggregate> result = new LinkedHashMap<>();
+        for (Map.Entry<List<String>, long[]> entry : sorted) result.put(entry.getKey(), new Aggregate(entry.getValue()));
+        return result;
+    }
+
+    /**
+     * Gets the number of cells in the table grouped by every dimension.
+     *
+     * @return The number of distinct (country, orbit type, object type) combinations.
+     */
+    public int cellCount() {
+        return cuboids.get(cuboids.size() - 1).size();
+    }
+
+    /**
+     * Resolves the sliced values to folded codes, or returns {@code null} if a value has never
+     * been seen and the slice is therefore empty.
+     */
+    private static int[] sliceCodes(Map<Dimension, String> slice) {
+        int[] codes = new int[DIMENSIONS.length];
+        for (Map.Entry<Dimension, String> entry : slice.entrySet()) {
+            int code = entry.getKey().dictionary.findIgnoreCase(entry.getValue());
+            if (code < 0) return null;
+            codes[entry.getKey().ordinal()] = code;
+        }
+        return codes;
+    }
+
+    private static int mask(Iterable<Dimension> dimensions) {
+        int mask = 0;
+        for (Dimension dimension : dimensions) mask |= dimension.bit();
+        return mask;
+    }
+
+    private static int[] filled(int value) {
+        int[] codes = new int[DIMENSIONS.length];
+        Arrays.fill(codes, value & ((1 << CODE_BITS) - 1));
+        return codes;
+    }
+
+    /**
+     * The {@code Aggregate} class holds the count and totals of a group of objects.
+     */
+    public static final class Aggregate {
+        static final Aggregate EMPTY = new Aggregate(new long[3]);
+
+        private final long count;
+        private final long totalDaysOld;
+        private final long totalConjunctions;
+
+        private Aggregate(long[] cell) {
+            this.count = cell[0];
+            this.totalDaysOld = cell[1];
+            this.totalConjunctions = cell[2];
+        }
+
+        /**
+         * Gets the number of objects in the group.
+         *
+         * @return The object count.
+         */
+        public long getCount() { return count; }
+
+        /**
+         * Gets the sum of {@code days_old} over the group.
+         *
+         * @return The total age in days.
+         */
+        public long getTotalDaysOld() { return totalDaysOld; }
+
+        /**
+         * Gets the sum of {@code conjunction_count} over the group.
+         *
+         * @return The total number of conjunctions.
+         */
+        public long getTotalConjunctions() { return totalConjunctions; }
+
+        /**
+         * Gets the mean {@code days_old} of the group.
+         *
+         * @return The mean age in days, or {@code 0} for an empty group.
+         */
+        public double getAverageDaysOld() {
+            return count == 0 ? 0 : (double) totalDaysOld / count;
+        }
+
+        /**
+         * Gets the mean {@code conjunction_count} of the group.
+         *
+         * @return The mean number of conjunctions, or {@code 0} for an empty group.
+         */
+        public double getAverageConjunctions() {
+            return count == 0 ? 0 : (double) totalConjunctions / count;
+        }
+    }
+}
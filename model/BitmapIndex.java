@@ -0,0 +1,224 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The {@code BitmapIndex} class holds secondary bitmap indexes over the rows of a
+ * {@link ColumnarCatalog}: one bitmap per country, orbit type, object type and launch decade,
+ * and one per flag column. Bit {@code i} of a bitmap is set when row {@code i} has the value.
+ *
+ * <p>Lookups return fresh bitmaps that callers may combine in place, so a multi-attribute
+ * filter becomes a handful of word-level operations, for example
+ * {@code and(country("CIS"), orbitType("LEO"), objectType("DEBRIS"), launchedBetween(0, 1989),
+ * withConjunctions())}. {@link #not(BitSet)} complements within the catalog rows.
+ * String values are matched case-insensitively through their folded dictionary codes.</p>
+ */
+public class BitmapIndex {
+    private final ColumnarCatalog catalog;
+    private final BitSet[] countries;
+    private final BitSet[] orbitTypes;
+    private final BitSet[] objectTypes;
+    private final TreeMap<Integer, BitSet> launchDecades = new TreeMap<>();
+    private final BitSet nominated = new BitSet();
+    private final BitSet hasDossier = new BitSet();
+    private final BitSet unkObject = new BitSet();
+    private final BitSet withConjunctions = new BitSet();
+
+    /**
+     * Builds the bitmap indexes over the given catalog.
+     *
+     * @param catalog The catalog to index.
+     */
+    BitmapIndex(ColumnarCatalog catalog) {
+        this.catalog = catalog;
+        countries = new BitSet[CatalogDictionaries.COUNTRIES.size()];
+        orbitTypes = new BitSet[CatalogDictionaries.ORBIT_TYPES.size()];
+        objectTypes = new BitSet[CatalogDictionaries.OBJECT_TYPES.size()];
+        for (int i = 0; i < catalog.size(); i++) {
+            set(countries, CatalogDictionaries.COUNTRIES.foldedCode(catalog.countryCode(i)), i);
+            set(orbitTypes, CatalogDictionaries.ORBIT_TYPES.foldedCode(catalog.orbitTypeCode(i)), i);
+            set(objectTypes, CatalogDictionaries.OBJECT_TYPES.foldedCode(catalog.objectTypeCode(i)), i);
+            launchDecades.computeIfAbsent(Math.floorDiv(catalog.launchYear(i), 10), k -> new BitSet()).set(i);
+            if (catalog.nominated(i)) nominated.set(i);
+            if (catalog.hasDossier(i)) hasDossier.set(i);
+            if (catalog.unkObject(i)) unkObject.set(i);
+            if (catalog.conjunctionCount(i) > 0) withConjunctions.set(i);
+        }
+    }
+
+    private static void set(BitSet[] bitmaps, int code, int row) {
+        if (bitmaps[code] == null) bitmaps[code] = new BitSet();
+        bitmaps[code].set(row);
+    }
+
+    /**
+     * Gets the catalog this index was built over.
+     *
+     * @return The indexed catalog.
+     */
+    ColumnarCatalog catalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the rows of objects from a country.
+     *
+     * @param country The country, e.g. "CIS"; matched case-insensitively.
+     * @return A new bitmap of the matching rows.
+     */
+    public BitSet country(String country) {
+        return lookup(countries, CatalogDictionaries.COUNTRIES.findIgnoreCase(country));
+    }
+
+    /**
+     * Gets the rows of objects in an orbit type.
+     *
+     * @param orbitType The orbit type, e.g. "LEO"; matched case-insensitively.
+     * @return A new bitmap of the matching rows.
+     */
+    public BitSet orbitType(String orbitType) {
+        return lookup(orbitTypes, CatalogDictionaries.ORBIT_TYPES.findIgnoreCase(orbitType));
+    }
+
+    /**
+     * Gets the rows of objects of an object type.
+     *
+     * @param objectType The object type, e.g. "DEBRIS"; matched case-insensitively.
+     * @return A new bitmap of the matching rows.
+     */
+    public BitSet objectType(String objectType) {
+        return lookup(objectTypes, CatalogDictionaries.OBJECT_TYPES.findIgnoreCase(objectType));
+    }
+
+    private static BitSet lookup(BitSet[] bitmaps, int code) {
+        return code < 0 || code >= bitmaps.length || bitmaps[code] == null ? new BitSet() : (BitSet) bitmaps[code].clone();
+    }
+
+    /**
+     * Gets the rows of objects launched in a range of years. Decades inside the range are
+     * taken whole from their bitmaps; only the decades at either end are checked row by row.
+     *
+     * @param minYear The inclusive first launch year.
+     * @param maxYear The inclusive last launch year.
+     * @return A new bitmap of the matching rows.
+     */
+    public BitSet launchedBetween(int minYear, int maxYear) {
+        BitSet result = new BitSet();
+        if (minYear > maxYear) return result;
+        int firstDecade = Math.floorDiv(minYear, 10), lastDecade = Math.floorDiv(maxYear, 10);
+        for (Map.Entry<Integer, BitSet> entry : launchDecades.subMap(firstDecade, true, lastDecade, true).entrySet()) {
+            int decade = entry.getKey();
+            BitSet rows = entry.getValue();
+            if (decade * 10 >= minYear && decade * 10 + 9 <= maxYear) {
+                result.or(rows);
+            } else {
+                for (int i = rows.nextSetBit(0); i >= 0; i = rows.nextSetBit(i + 1)) {
+                    int year = catalog.launchYear(i);
+                    if (year >= minYear && year <= maxYear) result.set(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the rows of nominated objects.
+     *
+     * @return A new bitmap of the matching rows.
+     */
+    public BitSet nominated() { return (BitSet) nominated.clone(); }
+
+    /**
+     * Gets the rows of objects that have a dossier.
+     *
+     * @return A new bitmap of the matching rows.
+     */
+    public BitSet hasDossier() { return (BitSet) hasDossier.clone(); }
+
+    /**
+     * Gets the rows of objects flagged as unknown in the source data.
+     *
+     * @return A new bitmap of the matching rows.
+     */
+    public BitSet unkObject() { return (BitSet) unkObject.clone(); }
+
+    /**
+     * Gets the rows of objects involved in at least one conjunction.
+     *
+     * @return A new bitmap of the matching rows.
+     */
+    public BitSet withConjunctions() { return (BitSet) withConjunctions.clone(); }
+
+    /**
+     * Gets a bitmap of every row in the catalog.
+     *
+     * @return A new bitmap with all rows set.
+     */
+    public BitSet all() {
+        BitSet result = new BitSet(catalog.size());
+        result.set(0, catalog.size());
+        return result;
+    }
+
+    /**
+     * Intersects bitmaps into the first one.
+     *
+     * @param first The bitmap to update and return.
+     * @param rest  The bitmaps to intersect with.
+     * @return {@code first}, holding the rows set in every bitmap.
+     */
+    public static BitSet and(BitSet first, BitSet... rest) {
+        for (BitSet bits : rest) first.and(bits);
+        return first;
+    }
+
+    /**
+     * Unites bitmaps into the first one.
+     *
+     * @param first The bitmap to update and return.
+     * @param rest  The bitmaps to unite with.
+     * @return {@code first}, holding the rows set in any bitmap.
+     */
+    public static BitSet or(BitSet first, BitSet... rest) {
+        for (BitSet bits : rest) first.or(bits);
+        return first;
+    }
+
+    /**
+     * Complements a bitmap within the catalog rows.
+     *
+     * @param bits The bitmap to complement.
+     * @return A new bitmap of the rows not set in {@code bits}.
+     */
+    public BitSet not(BitSet bits) {
+        BitSet result = all();
+        result.andNot(bits);
+        return result;
+    }
+
+    /**
+     * Gets the row indexes set in a bitmap.
+     *
+     * @param bits A bitmap from this index.
+     * @return The rows, in ascending order.
+     */
+    public static int[] rows(BitSet bits) {
+        return bits.stream().toArray();
+    }
+
+    /**
+     * Gets the objects of the rows set in a bitmap.
+     *
+     * @param bits A bitmap from this index.
+     * @return The objects, in catalog order.
+     */
+    public List<SpaceObject> objects(BitSet bits) {
+        List<SpaceObject> result = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) result.add(catalog.object(i));
+        return result;
+    }
+}
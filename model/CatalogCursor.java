@@ -0,0 +1,58 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code CatalogCursor} class reads the results of a {@link CatalogQuery} incrementally,
+ * one object or one page at a time. The query runs only as far as the cursor is advanced,
+ * so a caller that stops after the first page never evaluates the rest of the catalog.
+ */
+public class CatalogCursor implements Iterator<SpaceObject> {
+    private final Iterator<SpaceObject> results;
+    private int position;
+
+    /**
+     * Constructs a cursor over a lazily evaluated result iterator.
+     *
+     * @param results The query results.
+     */
+    CatalogCursor(Iterator<SpaceObject> results) {
+        this.results = results;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return results.hasNext();
+    }
+
+    @Override
+    public SpaceObject next() {
+        if (!results.hasNext()) throw new NoSuchElementException();
+        position++;
+        return results.next();
+    }
+
+    /**
+     * Reads the next page of results.
+     *
+     * @param pageSize The maximum number of objects to read.
+     * @return The next objects, fewer than {@code pageSize} only at the end of the results.
+     */
+    public List<SpaceObject> nextPage(int pageSize) {
+        List<SpaceObject> page = new ArrayList<>(Math.max(0, Math.min(pageSize, 1024)));
+        while (page.size() < pageSize && results.hasNext()) page.add(next());
+        return page;
+    }
+
+    /**
+     * Gets the number of objects read so far.
+     *
+     * @return The cursor position.
+     */
+    public int position() {
+        return position;
+    }
+}
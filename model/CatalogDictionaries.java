@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * The {@code CatalogDictionaries} class holds the shared string tables for the catalog's
+ * low-cardinality attributes. Every {@code SpaceObject} stores these attributes as codes
+ * into the tables below, so each distinct country, orbit type, launch site and object type
+ * is kept in memory once regardless of catalog size.
+ */
+public final class CatalogDictionaries {
+    /** Countries, e.g. "CIS" or "US". */
+    public static final StringDictionary COUNTRIES = new StringDictionary();
+    /** Approximate orbit types, e.g. "LEO" or "GEO". */
+    public static final StringDictionary ORBIT_TYPES = new StringDictionary();
+    /** Launch sites, e.g. "PKMTR" or "AFETR". */
+    public static final StringDictionary LAUNCH_SITES = new StringDictionary();
+    /** Object types as filed in the tracking system, e.g. "DEBRIS" or "ROCKET BODY". */
+    public static final StringDictionary OBJECT_TYPES = new StringDictionary();
+
+    private CatalogDictionaries() {
+    }
+}
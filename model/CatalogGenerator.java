@@ -0,0 +1,327 @@
+package model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The {@code CatalogGenerator} class writes synthetic RSO catalogs in the format of
+ * {@code rso_metrics.csv}, for exercising the tracking system at sizes the shipped samples
+ * cannot reach.
+ *
+ * <p>Rows follow the distributions of the sample catalog: the mix of object types, the orbit
+ * types of each object type, launch sites with their countries and geohash coordinates,
+ * launch years with a matching {@code days_old}, conjunction counts that are mostly zero
+ * except for payloads, and the columns the sample leaves empty. Record IDs are unique.</p>
+ *
+ * <p>The column order can be shuffled, as in {@code rso_metrics_columns_jumbled.csv}, and a
+ * fraction of rows can be malformed on purpose: truncated, with extra fields, with an
+ * unparsable number, without a record ID, or with an unquoted geohash that shifts the
+ * following columns. Output is a seeded pure function of the settings, and the well-formed
+ * rows do not depend on the shuffle or the malformed fraction. Rows are streamed one by one,
+ * so catalogs of any size can be written in constant memory.</p>
+ *
+ * <p>Usage: {@code java model.CatalogGenerator <rows> <file> [--seed=N] [--shuffle]
+ * [--malformed=RATE]}</p>
+ */
+public class CatalogGenerator {
+    /** The columns of the catalog, in the order of {@code rso_metrics.csv}. */
+    private static final String[] COLUMNS = {"record_id", "norad_cat_id", "satellite_name", "country",
+            "approximate_orbit_type", "object_type", "launch_year", "launch_site", "longitude", "avg_longitude",
+            "geohash", "HRR_Category", "is_nominated", "nominated_at", "has_dossier", "last_updated_at",
+            "justification", "focused_analysis", "days_old", "conjunction_count", "is_unk_object",
+            "all_maneuvers", "days_since_ob", "recent_maneuvers", "deltaV_90day", "has_sister_debris"};
+
+    private static final int RECORD_ID = 0, NORAD_ID = 1, NAME = 2, COUNTRY = 3, ORBIT = 4, TYPE = 5,
+            LAUNCH_YEAR = 6, SITE = 7, LONGITUDE = 8, AVG_LONGITUDE = 9, GEOHASH = 10, HRR = 11,
+            NOMINATED = 12, DOSSIER = 14, DAYS_OLD = 18, CONJUNCTIONS = 19, UNK_OBJECT = 20;
+    private static final int[] NUMERIC_COLUMNS = {LAUNCH_YEAR, LONGITUDE, AVG_LONGITUDE, DAYS_OLD, CONJUNCTIONS};
+
+    private static final long FIRST_RECORD_ID = 10000;
+    private static final int FIRST_LAUNCH_YEAR = 1965;
+    private static final int LAST_LAUNCH_YEAR = 2024;
+    /** The catalog date as a fractional year; {@code days_old} counts back from it. */
+    private static final double CATALOG_EPOCH = 2024.9;
+
+    private static final String[] TYPES = {"DEBRIS", "PAYLOAD", "ROCKET BODY", "UNKNOWN"};
+    private static final double[] TYPE_WEIGHTS = {50, 40, 8, 2};
+    private static final String[] ORBITS = {"LEO", "HEO", "GEO", "MEO", "Unknown Orbit Category"};
+    /** Orbit type weights per object type, in the order of {@link #TYPES}. */
+    private static final double[][] ORBIT_WEIGHTS = {{82, 16, 0, 0, 2}, {80, 2.5, 13, 2.5, 2},
+            {25, 37.5, 25, 12.5, 0}, {100, 0, 0, 0, 0}};
+    private static final String[] SITES = {"AFETR", "AFWTR", "PKMTR", "TSC", "TTMTR", "FRGUI", "SRI", "XSC",
+            "TNSTA", "VOSTO"};
+    private static final double[] SITE_WEIGHTS = {28, 17, 14, 14, 13, 5, 3, 2, 1, 1};
+    private static final String[] SITE_COUNTRIES = {"US", "US", "CIS", "PRC", "CIS", "FR", "IND", "PRC", "JPN", "CIS"};
+    private static final String[] SITE_GEOHASHES = {"28.4917337,-80.5825555", "34.742221,-120.57243",
+            "62.925556,40.577778", "38.849086,111.608497", "45.965,63.305", "5.222222,-52.773611", "13.7178,80.2",
+            "28.246017,102.026556", "30.4,130.97", "51.884553,128.334778"};
+    /** Countries that buy launches from other countries' sites. */
+    private static final String[] CUSTOMERS = {"UK", "GER", "SWED", "ESA", "TBD", "JPN", "FR", "US"};
+    private static final String[] DEBRIS_PARENTS = {"COSMOS 2251", "FENGYUN 1C", "SL-8", "CZ-4B", "DELTA 1",
+            "ARIANE 44L", "BREEZE-M", "IRIDIUM 33", "NOAA 16", "SL-12", "ATLAS 5 CENTAUR"};
+    private static final String[] ROCKET_BODIES = {"SL-14 R/B", "SL-4 R/B", "SL-6 R/B(2)", "CZ-2C R/B",
+            "CZ-4B R/B", "DELTA 2 R/B(1)", "ARIANE 5 R/B", "FALCON 9 R/B"};
+    private static final String[] PAYLOAD_SERIES = {"STARLINK-", "ONEWEB-", "COSMOS ", "YAOGAN-", "GPS BIIF-",
+            "IRIDIUM "};
+    private static final double[] PAYLOAD_SERIES_WEIGHTS = {60, 10, 12, 8, 4, 6};
+
+    private final long seed;
+    private boolean shuffleColumns;
+    private double malformedRate;
+
+    /**
+     * Constructs a generator. Equal seeds and settings produce identical catalogs.
+     *
+     * @param seed The random seed.
+     */
+    public CatalogGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets whether columns are written in a shuffled order. The order is drawn from the seed
+     * and used for the header and every row.
+     *
+     * @param shuffle {@code true} to shuffle the columns.
+     * @return This generator.
+     */
+    public CatalogGenerator shuffleColumns(boolean shuffle) {
+        this.shuffleColumns = shuffle;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of rows that are written malformed.
+     *
+     * @param rate The malformed fraction, from {@code 0} to {@code 1}.
+     * @return This generator.
+     * @throws IllegalArgumentException If the rate is outside {@code [0, 1]}.
+     */
+    public CatalogGenerator malformedRate(double rate) {
+        if (!(rate >= 0 && rate <= 1)) throw new IllegalArgumentException("Malformed rate must be in [0, 1]: " + rate);
+        this.malformedRate = rate;
+        return this;
+    }
+
+    /**
+     * Writes a catalog to a file, replacing it if it exists.
+     *
+     * @param rows The number of data rows to write.
+     * @param file The output file.
+     * @return The number of malformed rows written.
+     * @throws IOException If the file cannot be written.
+     */
+    public long write(long rows, Path file) throws IOException {
+        try (Writer out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 20)) {
+            return write(rows, out);
+        }
+    }
+
+    /**
+     * Writes a catalog, starting with a byte order mark and the header.
+     *
+     * @param rows The number of data rows to write.
+     * @param out  The destination; it is not closed.
+     * @return The number of malformed rows written.
+     * @throws IOException If writing fails.
+     */
+    public long write(long rows, Writer out) throws IOException {
+        // Separate streams keep the row values independent of the shuffle and fault settings.
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] order = columnOrder(random.split());
+        SplittableRandom faults = random.split();
+        StringBuilder line = new StringBuilder(256).append('\uFEFF');
+        for (int i = 0; i < order.length; i++) line.append(i == 0 ? "" : ",").append(COLUMNS[order[i]]);
+        out.append(line).append('\n');
+
+        String[] values = new String[COLUMNS.length];
+        long malformed = 0;
+        for (long r = 0; r < rows; r++) {
+            fill(values, FIRST_RECORD_ID + r, random);
+            line.setLength(0);
+            if (malformedRate > 0 && faults.nextDouble() < malformedRate) {
+                malform(values, order, line, faults);
+                malformed++;
+            } else {
+                appendRow(values, order, order.length, line);
+            }
+            out.append(line).append('\n');
+        }
+        out.flush();
+        return malformed;
+    }
+
+    private int[] columnOrder(SplittableRandom random) {
+        int[] order = new int[COLUMNS.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        if (shuffleColumns) {
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int column = order[i];
+                order[i] = order[j];
+                order[j] = column;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Draws the values of one well-formed row, by column index.
+     */
+    private static void fill(String[] values, long recordId, SplittableRandom random) {
+        Arrays.fill(values, "");
+        int type = pick(TYPE_WEIGHTS, random);
+        int site = pick(SITE_WEIGHTS, random);
+        int year = launchYear(type, random);
+        String id = Long.toString(recordId);
+
+        values[RECORD_ID] = id;
+        values[NORAD_ID] = id;
+        values[NAME] = name(type, year, random);
+        values[COUNTRY] = random.nextInt(100) < 8 ? CUSTOMERS[random.nextInt(CUSTOMERS.length)] : SITE_COUNTRIES[site];
+        values[ORBIT] = ORBITS[pick(ORBIT_WEIGHTS[type], random)];
+        values[TYPE] = TYPES[type];
+        values[LAUNCH_YEAR] = Integer.toString(year);
+        values[SITE] = SITES[site];
+        if (random.nextInt(100) < 12) {
+            values[LONGITUDE] = "0";
+            values[AVG_LONGITUDE] = "0";
+        } else {
+            values[LONGITUDE] = decimal(random.nextDouble(-180, 180));
+            values[AVG_LONGITUDE] = decimal(random.nextDouble(-180, 180));
+        }
+        values[GEOHASH] = '"' + SITE_GEOHASHES[site] + '"';
+        if (type == 1 && random.nextInt(100) < 10) values[HRR] = random.nextInt(4) == 0 ? "Blue" : "Red";
+        values[NOMINATED] = random.nextInt(1000) < 5 ? "TRUE" : "FALSE";
+        values[DOSSIER] = random.nextInt(1000) < 5 ? "TRUE" : "FALSE";
+        int daysOld = (int) ((CATALOG_EPOCH - year - random.nextDouble()) * 365.25);
+        values[DAYS_OLD] = Integer.toString(Math.max(1, daysOld));
+        values[CONJUNCTIONS] = Integer.toString(conjunctions(type, random));
+        values[UNK_OBJECT] = type == 3 && random.nextBoolean() ? "TRUE" : "FALSE";
+    }
+
+    private static int launchYear(int type, SplittableRandom random) {
+        int span = LAST_LAUNCH_YEAR - FIRST_LAUNCH_YEAR + 1;
+        return switch (type) {
+            // Payloads are dominated by recent constellation launches.
+            case 1 -> random.nextInt(100) < 75 ? random.nextInt(2019, LAST_LAUNCH_YEAR + 1)
+                    : random.nextInt(FIRST_LAUNCH_YEAR, 2019);
+            case 3 -> random.nextInt(2020, LAST_LAUNCH_YEAR + 1);
+            // Debris and rocket bodies peak around the 1990s.
+            default -> FIRST_LAUNCH_YEAR + (int) ((random.nextDouble() + random.nextDouble()) / 2 * span);
+        };
+    }
+
+    private static String name(int type, int year, SplittableRandom random) {
+        return switch (type) {
+            case 0 -> DEBRIS_PARENTS[random.nextInt(DEBRIS_PARENTS.length)] + " DEB";
+            case 1 -> PAYLOAD_SERIES[year >= 2019 ? pick(PAYLOAD_SERIES_WEIGHTS, random) : 2 + random.nextInt(PAYLOAD_SERIES.length - 2)]
+                    + (1 + random.nextInt(32000));
+            case 2 -> ROCKET_BODIES[random.nextInt(ROCKET_BODIES.length)];
+            default -> "TBA - TO BE ASSIGNED";
+        };
+    }
+
+    private static int conjunctions(int type, SplittableRandom random) {
+        if (type == 1) return random.nextInt(100) < 40 ? 0 : 1 + random.nextInt(17);
+        return random.nextInt(100) < 95 ? 0 : 1 + random.nextInt(5);
+    }
+
+    /**
+     * Writes a malformed version of a row into {@code line}.
+     */
+    private static void malform(String[] values, int[] order, StringBuilder line, SplittableRandom random) {
+        switch (random.nextInt(5)) {
+            case 0 -> appendRow(values, order, 1 + random.nextInt(order.length - 1), line);
+            case 1 -> {
+                appendRow(values, order, order.length, line);
+                line.append(",EXTRA,").append(random.nextInt(1000));
+            }
+            case 2 -> {
+                values[NUMERIC_COLUMNS[random.nextInt(NUMERIC_COLUMNS.length)]] = random.nextBoolean() ? "N/A" : "12x7";
+                appendRow(values, order, order.length, line);
+            }
+            case 3 -> {
+                values[RECORD_ID] = "";
+                values[NORAD_ID] = "";
+                appendRow(values, order, order.length, line);
+            }
+            default -> {
+                values[GEOHASH] = values[GEOHASH].substring(1, values[GEOHASH].length() - 1);
+                appendRow(values, order, order.length, line);
+            }
+        }
+    }
+
+    private static void appendRow(String[] values, int[] order, int columns, StringBuilder line) {
+        for (int i = 0; i < columns; i++) {
+            if (i > 0) line.append(',');
+            line.append(values[order[i]]);
+        }
+    }
+
+    private static int pick(double[] weights, SplittableRandom random) {
+        double total = 0;
+        for (double weight : weights) total += weight;
+        double target = random.nextDouble(total);
+        for (int i = 0; i < weights.length - 1; i++) {
+            target -= weights[i];
+            if (target < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Formats a value with eight decimals, as in the sample catalog, without
+     * {@code String.format}.
+     */
+    private static String decimal(double value) {
+        long scaled = Math.round(Math.abs(value) * 1e8);
+        if (scaled == 0) return "0";
+        StringBuilder text = new StringBuilder(16);
+        if (value < 0) text.append('-');
+        text.append(scaled / 100_000_000).append('.');
+        String fraction = Long.toString(scaled % 100_000_000);
+        for (int i = fraction.length(); i < 8; i++) text.append('0');
+        return text.append(fraction).toString();
+    }
+
+    /**
+     * Writes a synthetic catalog from the command line.
+     *
+     * @param args The number of rows, the output file, and optionally {@code --seed=N},
+     *             {@code --shuffle} and {@code --malformed=RATE}.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: java model.CatalogGenerator <rows> <file> [--seed=N] [--shuffle] [--malformed=RATE]");
+            return;
+        }
+        try {
+            long rows = Long.parseLong(args[0]);
+            long seed = 1;
+            boolean shuffle = false;
+            double malformed = 0;
+            for (int i = 2; i < args.length; i++) {
+                if (args[i].startsWith("--seed=")) seed = Long.parseLong(args[i].substring(7));
+                else if (args[i].equals("--shuffle")) shuffle = true;
+                else if (args[i].startsWith("--malformed=")) malformed = Double.parseDouble(args[i].substring(12));
+                else throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            CatalogGenerator generator = new CatalogGenerator(seed).shuffleColumns(shuffle).malformedRate(malformed);
+            long start = System.nanoTime();
+            long bad = generator.write(rows, Paths.get(args[1]));
+            System.out.printf("Wrote %d rows (%d malformed) to %s in %.1f s%n", rows, bad, args[1],
+                    (System.nanoTime() - start) / 1e9);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Catalog generation failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package model;
+
+/**
+ * The {@code CatalogListener} interface is notified when the objects tracked by a
+ * {@link TrackingSystem} change, so derived structures such as {@link CatalogView}s can be
+ * maintained incrementally instead of being recomputed from the whole catalog.
+ *
+ * <p>An object changed in place through {@link TrackingSystem#updateObject} is reported as
+ * removed with its old attributes and then added with its new ones.</p>
+ */
+public interface CatalogListener {
+
+    /**
+     * Called after an object has been added to the catalog.
+     *
+     * @param obj The added object.
+     */
+    void objectAdded(SpaceObject obj);
+
+    /**
+     * Called after an object has been removed from the catalog, or before it is changed.
+     *
+     * @param obj The removed object.
+     */
+    void objectRemoved(SpaceObject obj);
+
+    /**
+     * Called after an object has been replaced by a new version, e.g. by a refresh.
+     *
+     * @param previous    The object that was replaced.
+     * @param replacement The object that took its place.
+     */
+    default void objectReplaced(SpaceObject previous, SpaceObject replacement) {
+        objectRemoved(previous);
+        objectAdded(replacement);
+    }
+}
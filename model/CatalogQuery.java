@@ -0,0 +1,612 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The {@code CatalogQuery} class is a fluent query over the objects of a
+ * {@link TrackingSystem}, created with {@link TrackingSystem#query()}. Conditions are
+ * combined with AND; a query then projects, sorts, limits or groups the matching objects.
+ *
+ * <p>Before running, a small planner estimates how many candidates each available access
+ * path would produce, using the record ID map, the object type map, the
+ * {@link LongitudeIndex}, the {@link GeoIndex} and the {@link BitmapIndex} (which absorbs
+ * every attribute and flag condition in one bitmap intersection), and starts from the
+ * cheapest one. Only the remaining conditions are then tested per candidate, and unsorted
+ * limited queries stop as soon as enough objects match. {@link #explain()} describes the
+ * chosen plan.</p>
+ *
+ * <p>Results are in catalog order (see {@link TrackingSystem#getColumnarCatalog()}) unless
+ * {@link #sortBy(Comparator)} is used, whichever access path is chosen.</p>
+ *
+ * <p>Execution is lazy: {@link #stream()}, {@link #forEach(Consumer)} and {@link #cursor()}
+ * pull candidates from the index one at a time, so unsorted results are consumed with
+ * constant memory and stop being produced as soon as the consumer stops. Pages can be
+ * requested with {@link #offset(int)} and {@link #limit(int)}, or read one after another
+ * from a cursor.</p>
+ */
+public class CatalogQuery {
+    private final TrackingSystem trackingSystem;
+    private final List<Condition> conditions = new ArrayList<>();
+    private Comparator<? super SpaceObject> order;
+    private int offset;
+    private int limit = Integer.MAX_VALUE;
+
+    /**
+     * Constructs a new query over all objects of a tracking system.
+     *
+     * @param trackingSystem The tracking system to query.
+     */
+    CatalogQuery(TrackingSystem trackingSystem) {
+        this.trackingSystem = trackingSystem;
+    }
+
+    /**
+     * Restricts the query to the object with a record ID.
+     *
+     * @param recordId The record ID.
+     * @return This query.
+     */
+    public CatalogQuery recordId(String recordId) {
+        conditions.add(new RecordIdCondition(recordId));
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects of an object type.
+     *
+     * @param objectType The object type, e.g. "DEBRIS"; matched case-insensitively.
+     * @return This query.
+     */
+    public CatalogQuery objectType(String objectType) {
+        conditions.add(new ObjectTypeCondition(objectType));
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects from a country.
+     *
+     * @param country The country, e.g. "CIS"; matched case-insensitively.
+     * @return This query.
+     */
+    public CatalogQuery country(String country) {
+        int target = CatalogDictionaries.COUNTRIES.findIgnoreCase(country);
+        conditions.add(new BitmapCondition("country = " + country) {
+            @Override boolean test(SpaceObject obj) {
+                return CatalogDictionaries.COUNTRIES.foldedCode(obj.getCountryCode()) == target;
+            }
+            @Override BitSet bitmap(BitmapIndex index) { return index.country(country); }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects in an orbit type.
+     *
+     * @param orbitType The orbit type, e.g. "LEO"; matched case-insensitively.
+     * @return This query.
+     */
+    public CatalogQuery orbitType(String orbitType) {
+        int target = CatalogDictionaries.ORBIT_TYPES.findIgnoreCase(orbitType);
+        conditions.add(new BitmapCondition("orbit type = " + orbitType) {
+            @Override boolean test(SpaceObject obj) {
+                return CatalogDictionaries.ORBIT_TYPES.foldedCode(obj.getOrbitTypeCode()) == target;
+            }
+            @Override BitSet bitmap(BitmapIndex index) { return index.orbitType(orbitType); }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects launched in a range of years.
+     *
+     * @param minYear The inclusive first launch year.
+     * @param maxYear The inclusive last launch year.
+     * @return This query.
+     */
+    public CatalogQuery launchedBetween(int minYear, int maxYear) {
+        conditions.add(new BitmapCondition("launch year in [" + minYear + ", " + maxYear + "]") {
+            @Override boolean test(SpaceObject obj) {
+                return obj.getLaunchYear() >= minYear && obj.getLaunchYear() <= maxYear;
+            }
+            @Override BitSet bitmap(BitmapIndex index) { return index.launchedBetween(minYear, maxYear); }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to nominated objects.
+     *
+     * @return This query.
+     */
+    public CatalogQuery nominated() {
+        conditions.add(new BitmapCondition("nominated") {
+            @Override boolean test(SpaceObject obj) { return obj.isNominated(); }
+            @Override BitSet bitmap(BitmapIndex index) { return index.nominated(); }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects that have a dossier.
+     *
+     * @return This query.
+     */
+    public CatalogQuery withDossier() {
+        conditions.add(new BitmapCondition("has dossier") {
+            @Override boolean test(SpaceObject obj) { return obj.hasDossier(); }
+            @Override BitSet bitmap(BitmapIndex index) { return index.hasDossier(); }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects flagged as unknown in the source data.
+     *
+     * @return This query.
+     */
+    public CatalogQuery unkObject() {
+        conditions.add(new BitmapCondition("unknown object") {
+            @Override boolean test(SpaceObject obj) { return obj.isUnkObject(); }
+            @Override BitSet bitmap(BitmapIndex index) { return index.unkObject(); }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects involved in at least one conjunction.
+     *
+     * @return This query.
+     */
+    public CatalogQuery withConjunctions() {
+        conditions.add(new BitmapCondition("conjunctions > 0") {
+            @Override boolean test(SpaceObject obj) { return obj.getConjunctionCount() > 0; }
+            @Override BitSet bitmap(BitmapIndex index) { return index.withConjunctions(); }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects older than a number of days.
+     *
+     * @param days The exclusive lower bound on {@code days_old}.
+     * @return This query.
+     */
+    public CatalogQuery olderThan(int days) {
+        conditions.add(new Condition("days old > " + days) {
+            @Override boolean test(SpaceObject obj) { return obj.getDaysOld() > days; }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects with more than a number of conjunctions.
+     *
+     * @param count The exclusive lower bound on {@code conjunction_count}.
+     * @return This query.
+     */
+    public CatalogQuery conjunctionsAbove(long count) {
+        conditions.add(new Condition("conjunctions > " + count) {
+            @Override boolean test(SpaceObject obj) { return obj.getConjunctionCount() > count; }
+        });
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects whose longitude lies in a range.
+     *
+     * @param minLongitude The inclusive lower bound.
+     * @param maxLongitude The inclusive upper bound.
+     * @return This query.
+     */
+    public CatalogQuery longitudeBetween(double minLongitude, double maxLongitude) {
+        conditions.add(new LongitudeCondition(minLongitude, maxLongitude));
+        return this;
+    }
+
+    /**
+     * Restricts the query to objects whose decoded position lies in a bounding box.
+     *
+     * @param minLatitude  The inclusive southern bound.
+     * @param minLongitude The inclusive western bound.
+     * @param maxLatitude  The inclusive northern bound.
+     * @param maxLongitude The inclusive eastern bound.
+     * @return This query.
+     */
+    public CatalogQuery inRegion(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        conditions.add(new RegionCondition(minLatitude, minLongitude, maxLatitude, maxLongitude));
+        return this;
+    }
+
+    /**
+     * Restricts the query with an arbitrary predicate. Such predicates cannot use an index
+     * and are tested on every candidate left by the indexed conditions.
+     *
+     * @param predicate The predicate objects must satisfy.
+     * @return This query.
+     */
+    public CatalogQuery filter(Predicate<? super SpaceObject> predicate) {
+        conditions.add(new Condition("custom predicate") {
+            @Override boolean test(SpaceObject obj) { return predicate.test(obj); }
+        });
+        return this;
+    }
+
+    /**
+     * Sorts the results.
+     *
+     * @param comparator The result order.
+     * @return This query.
+     */
+    public CatalogQuery sortBy(Comparator<? super SpaceObject> comparator) {
+        this.order = comparator;
+        return this;
+    }
+
+    /**
+     * Limits the number of results.
+     *
+     * @param maxResults The maximum number of objects to return.
+     * @return This query.
+     */
+    public CatalogQuery limit(int maxResults) {
+        this.limit = Math.max(0, maxResults);
+        return this;
+    }
+
+    /**
+     * Skips a number of results, e.g. to read a later page together with {@link #limit(int)}.
+     *
+     * @param skipped The number of matching objects to skip.
+     * @return This query.
+     */
+    public CatalogQuery offset(int skipped) {
+        this.offset = Math.max(0, skipped);
+        return this;
+    }
+
+    /**
+     * Restricts the query to one page of results.
+     *
+     * @param page     The zero-based page number.
+     * @param pageSize The number of objects per page.
+     * @return This query.
+     */
+    public CatalogQuery page(int page, int pageSize) {
+        return offset((int) Math.min(Integer.MAX_VALUE, (long) Math.max(0, page) * pageSize)).limit(pageSize);
+    }
+
+    /**
+     * Runs the query lazily. Candidates are read from the chosen index as the stream is
+     * consumed; only a sorted query reads all of its matches before the first result. A
+     * sorted query with a limit keeps just the first {@code offset + limit} matches in a
+     * bounded heap instead of sorting them all.
+     *
+     * @return A sequential stream of the matching objects.
+     */
+    public Stream<SpaceObject> stream() {
+        Plan plan = plan();
+        Stream<SpaceObject> results = plan.candidates.get();
+        if (!plan.residual.isEmpty()) results = results.filter(plan::accepts);
+        if (order != null && limit != Integer.MAX_VALUE) {
+            Iterator<SpaceObject> matches = results.iterator();
+            results = TopK.select(matches, (int) Math.min(Integer.MAX_VALUE, (long) offset + limit), order).stream();
+        } else if (order != null) {
+            results = results.sorted(order);
+        }
+        if (offset > 0) results = results.skip(offset);
+        if (limit != Integer.MAX_VALUE) results = results.limit(limit);
+        return results;
+    }
+
+    /**
+     * Runs the query and passes each matching object to an action, without collecting them.
+     *
+     * @param action The action to perform.
+     */
+    public void forEach(Consumer<? super SpaceObject> action) {
+        stream().forEach(action);
+    }
+
+    /**
+     * Opens a cursor over the results for reading them page by page.
+     *
+     * @return A cursor positioned before the first matching object.
+     */
+    public CatalogCursor cursor() {
+        return new CatalogCursor(stream().iterator());
+    }
+
+    /**
+     * Runs the query and collects the results.
+     *
+     * @return A new list of the matching objects.
+     */
+    public List<SpaceObject> list() {
+        return stream().collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Counts the matching objects. When every condition is answered by the chosen index,
+     * the count comes straight from the index without visiting any object.
+     *
+     * @return The number of matching objects, after the offset and at most the limit.
+     */
+    public int count() {
+        Plan plan = plan();
+        if (plan.residual.isEmpty()) return Math.min(Math.max(0, plan.estimate - offset), limit);
+        Stream<SpaceObject> results = plan.candidates.get().filter(plan::accepts).skip(offset);
+        return (int) (limit == Integer.MAX_VALUE ? results : results.limit(limit)).count();
+    }
+
+    /**
+     * Runs the query and projects every matching object.
+     *
+     * @param projection The function to apply to each object.
+     * @param <R>        The projected type.
+     * @return The projected values, in result order.
+     */
+    public <R> List<R> select(Function<? super SpaceObject, ? extends R> projection) {
+        return stream().map(projection).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Runs the query and groups the matching objects by a key.
+     *
+     * @param key The function computing each object's group key.
+     * @param <K> The key type.
+     * @return The groups, in order of first appearance in the results.
+     */
+    public <K> Map<K, List<SpaceObject>> groupBy(Function<? super SpaceObject, ? extends K> key) {
+        Map<K, List<SpaceObject>> groups = new LinkedHashMap<>();
+        forEach(obj -> groups.computeIfAbsent(key.apply(obj), k -> new ArrayList<>()).add(obj));
+        return groups;
+    }
+
+    /**
+     * Runs the query and counts the matching objects per key without collecting them.
+     *
+     * @param key The function computing each object's group key.
+     * @param <K> The key type.
+     * @return The counts, in order of first appearance in the results.
+     */
+    public <K> Map<K, Integer> countBy(Function<? super SpaceObject, ? extends K> key) {
+        Map<K, Integer> counts = new LinkedHashMap<>();
+        forEach(obj -> counts.merge(key.apply(obj), 1, Integer::sum));
+        return counts;
+    }
+
+    /**
+     * Describes how the query would run: the chosen access path with its estimated number
+     * of candidates, and the conditions left to test per candidate.
+     *
+     * @return A one-line plan description.
+     */
+    public String explain() {
+        Plan plan = plan();
+        StringBuilder text = new StringBuilder(plan.access).append(" (").append(plan.estimate).append(" candidates)");
+        if (!plan.residual.isEmpty()) {
+            text.append(" -> filter ");
+            for (int i = 0; i < plan.residual.size(); i++) {
+                text.append(i == 0 ? "" : " and ").append(plan.residual.get(i).description);
+            }
+        }
+        if (order != null && limit != Integer.MAX_VALUE) text.append(" -> top ").append((long) offset + limit);
+        else if (order != null) text.append(" -> sort");
+        if (offset > 0) text.append(" -> offset ").append(offset);
+        if (limit != Integer.MAX_VALUE) text.append(" -> limit ").append(limit);
+        return text.toString();
+    }
+
+    /**
+     * Chooses the access path with the fewest candidates. Every estimate is an exact count
+     * obtained from the index itself, so the comparison is cheap and never misleading.
+     *
+     * <p>The record ID and object type maps are always current, so they are tried first.
+     * The columnar indexes are rebuilt after the catalog changes and are only consulted when
+     * they can still win: not once a path with at most one candidate is found, and the bitmap
+     * index not for a lone object type condition, which the type map answers as cheaply.</p>
+     */
+    private Plan plan() {
+        Plan best = new Plan("full scan", trackingSystem.objectCount(), Collections.emptySet(),
+                trackingSystem::streamObjects);
+
+        for (Condition condition : conditions) {
+            Plan candidate = null;
+            if (condition instanceof RecordIdCondition id) {
+                SpaceObject obj = trackingSystem.getObjectById(id.recordId);
+                List<SpaceObject> match = obj == null ? Collections.emptyList() : List.of(obj);
+                candidate = new Plan("record id lookup", match.size(), Set.of(condition), match::stream);
+            } else if (condition instanceof ObjectTypeCondition type) {
+                List<SpaceObject> objects = trackingSystem.getObjectsByType(type.objectType);
+                candidate = new Plan("object type map", objects.size(), Set.of(condition), objects::stream);
+            }
+            if (candidate != null && candidate.estimate < best.estimate) best = candidate;
+        }
+
+        for (Condition condition : conditions) {
+            if (best.estimate <= 1) break;
+            Plan candidate = null;
+            if (condition instanceof LongitudeCondition range) {
+                LongitudeIndex index = trackingSystem.getLongitudeIndex();
+                candidate = new Plan("longitude index", index.count(range.min, range.max), Set.of(condition),
+                        () -> objects(index.catalog(), index.rows(range.min, range.max)));
+            } else if (condition instanceof RegionCondition box) {
+                GeoIndex index = trackingSystem.getGeoIndex();
+                candidate = new Plan("geo index", index.count(box.minLat, box.minLon, box.maxLat, box.maxLon),
+                        Set.of(condition),
+                        () -> objects(index.catalog(), index.rows(box.minLat, box.minLon, box.maxLat, box.maxLon)));
+            }
+            if (candidate != null && candidate.estimate < best.estimate) best = candidate;
+        }
+
+        List<BitmapCondition> bitmapped = new ArrayList<>();
+        for (Condition condition : conditions) {
+            if (condition instanceof BitmapCondition bitmap) bitmapped.add(bitmap);
+        }
+        boolean coveredByTypeMap = bitmapped.size() == 1 && bitmapped.get(0) instanceof ObjectTypeCondition;
+        if (best.estimate > 1 && !bitmapped.isEmpty() && !coveredByTypeMap) {
+            BitmapIndex bitmaps = trackingSystem.getBitmapIndex();
+            BitSet rows = null;
+            Set<Condition> consumed = Collections.newSetFromMap(new IdentityHashMap<>());
+            StringBuilder access = new StringBuilder("bitmap index [");
+            for (BitmapCondition condition : bitmapped) {
+                BitSet bits = condition.bitmap(bitmaps);
+                if (rows == null) rows = bits;
+                else rows.and(bits);
+                access.append(consumed.isEmpty() ? "" : ", ").append(condition.description);
+                consumed.add(condition);
+            }
+            if (rows.cardinality() < best.estimate) {
+                BitSet matches = rows;
+                ColumnarCatalog catalog = bitmaps.catalog();
+                best = new Plan(access.append("]").toString(), matches.cardinality(), consumed,
+                        () -> matches.stream().mapToObj(catalog::object));
+            }
+        }
+
+        best.residual = new ArrayList<>();
+        for (Condition condition : conditions) {
+            if (!best.consumed.contains(condition)) best.residual.add(condition);
+        }
+        return best;
+    }
+
+    /**
+     * Streams the objects of index rows in catalog order. The row array is sorted in place.
+     */
+    private static Stream<SpaceObject> objects(ColumnarCatalog catalog, int[] rows) {
+        Arrays.sort(rows);
+        return Arrays.stream(rows).mapToObj(catalog::object);
+    }
+
+    /**
+     * A chosen access path: where candidates come from and which conditions still apply.
+     */
+    private static class Plan {
+        final String access;
+        final int estimate;
+        final Set<Condition> consumed;
+        final Supplier<Stream<SpaceObject>> candidates;
+        List<Condition> residual;
+
+        Plan(String access, int estimate, Set<Condition> consumed, Supplier<Stream<SpaceObject>> candidates) {
+            this.access = access;
+            this.estimate = estimate;
+            this.consumed = consumed;
+            this.candidates = candidates;
+        }
+
+        boolean accepts(SpaceObject obj) {
+            for (Condition condition : residual) {
+                if (!condition.test(obj)) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A query condition.
+     */
+    private abstract static class Condition {
+        final String description;
+
+        Condition(String description) {
+            this.description = description;
+        }
+
+        abstract boolean test(SpaceObject obj);
+    }
+
+    /**
+     * A query condition that a bitmap index can answer.
+     */
+    private abstract static class BitmapCondition extends Condition {
+        BitmapCondition(String description) {
+            super(description);
+        }
+
+        abstract BitSet bitmap(BitmapIndex index);
+    }
+
+    private static class RecordIdCondition extends Condition {
+        final String recordId;
+
+        RecordIdCondition(String recordId) {
+            super("record id = " + recordId);
+            this.recordId = recordId;
+        }
+
+        @Override boolean test(SpaceObject obj) { return recordId != null && recordId.equals(obj.getRecordId()); }
+    }
+
+    private static class ObjectTypeCondition extends BitmapCondition {
+        final String objectType;
+        final int target;
+
+        ObjectTypeCondition(String objectType) {
+            super("object type = " + objectType);
+            this.objectType = objectType;
+            this.target = CatalogDictionaries.OBJECT_TYPES.findIgnoreCase(objectType);
+        }
+
+        @Override boolean test(SpaceObject obj) {
+            return CatalogDictionaries.OBJECT_TYPES.foldedCode(obj.getObjectTypeCode()) == target;
+        }
+
+        @Override BitSet bitmap(BitmapIndex index) { return index.objectType(objectType); }
+    }
+
+    private static class LongitudeCondition extends Condition {
+        final double min, max;
+
+        LongitudeCondition(double min, double max) {
+            super("longitude in [" + min + ", " + max + "]");
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override boolean test(SpaceObject obj) { return obj.getLongitude() >= min && obj.getLongitude() <= max; }
+    }
+
+    private static class RegionCondition extends Condition {
+        final double minLat, minLon, maxLat, maxLon;
+        final int x0, x1, y0, y1;
+
+        RegionCondition(double minLat, double minLon, double maxLat, double maxLon) {
+            super("position in [" + minLat + ", " + minLon + "] - [" + maxLat + ", " + maxLon + "]");
+            this.minLat = minLat;
+            this.minLon = minLon;
+            this.maxLat = maxLat;
+            this.maxLon = maxLon;
+            x0 = GeoCell.quantize(minLon, -180, 360);
+            x1 = GeoCell.quantize(maxLon, -180, 360);
+            y0 = GeoCell.quantize(minLat, -90, 180);
+            y1 = GeoCell.quantize(maxLat, -90, 180);
+        }
+
+        // Compared at cell resolution, like the geo index.
+        @Override boolean test(SpaceObject obj) {
+            long cell = obj.getGeoCell();
+            if (cell == GeoCell.NO_CELL || !(minLat <= maxLat && minLon <= maxLon)) return false;
+            int x = GeoCell.x(cell), y = GeoCell.y(cell);
+            return x >= x0 && x <= x1 && y >= y0 && y <= y1;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The {@code CatalogRanking} class keeps every tracked object of a {@link TrackingSystem} in
+ * a fixed order, maintained as objects are inserted, updated and deleted. Each change costs
+ * {@code O(log n)}, and reading the first {@code k} objects costs {@code O(k)} with no sort.
+ *
+ * <p>Rankings are created with {@link TrackingSystem#registerRanking(String, Comparator)}.
+ * Objects that tie in the ranking order are ranked by record ID, and objects that also share
+ * their record ID in the order they joined the ranking, so no object is ever dropped as a
+ * duplicate. An object must only be changed through {@link TrackingSystem#updateObject}
+ * while it is ranked.</p>
+ */
+public class CatalogRanking implements CatalogListener {
+    private final String name;
+    private final TreeSet<SpaceObject> ranked;
+    private final Map<SpaceObject, Long> arrivals = new IdentityHashMap<>();
+    private long arrived;
+
+    /**
+     * Constructs an empty ranking.
+     *
+     * @param name  The name the ranking is registered under.
+     * @param order The ranking order; the first objects in this order rank highest.
+     */
+    CatalogRanking(String name, Comparator<? super SpaceObject> order) {
+        this.name = name;
+        Comparator<SpaceObject> total = order::compare;
+        this.ranked = new TreeSet<>(total
+                .thenComparing(SpaceObject::getRecordId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(arrivals::get));
+    }
+
+    /**
+     * Gets the name the ranking is registered under.
+     *
+     * @return The ranking name.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Gets the number of ranked objects.
+     *
+     * @return The ranking size.
+     */
+    public int size() {
+        return ranked.size();
+    }
+
+    /**
+     * Gets the highest-ranked objects.
+     *
+     * @param k The number of objects to return.
+     * @return At most {@code k} objects, highest rank first.
+     */
+    public List<SpaceObject> top(int k) {
+        List<SpaceObject> result = new ArrayList<>(Math.max(0, Math.min(k, ranked.size())));
+        Iterator<SpaceObject> it = ranked.iterator();
+        while (result.size() < k && it.hasNext()) result.add(it.next());
+        return result;
+    }
+
+    @Override
+    public void objectAdded(SpaceObject obj) {
+        if (arrivals.containsKey(obj)) return;
+        arrivals.put(obj, arrived++);
+        ranked.add(obj);
+    }
+
+    @Override
+    public void objectRemoved(SpaceObject obj) {
+        if (!arrivals.containsKey(obj)) return;
+        ranked.remove(obj);
+        arrivals.remove(obj);
+    }
+}
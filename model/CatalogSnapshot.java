@@ -0,0 +1,176 @@
+package model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import factory.SpaceObjectFactory;
+
+/**
+ * The {@code CatalogSnapshot} class reads and writes a binary image of a parsed catalog so
+ * that startup can skip CSV parsing. A snapshot records the size and modification time of
+ * the CSV file it was built from and is only used while that fingerprint still matches.
+ *
+ * <p>Layout (big-endian): magic, version, source size, source modification time, row count,
+ * a string table of length-prefixed UTF-8 entries (entry 0 is {@code null}), seven
+ * {@code int} sections of string table indexes (record ID, satellite name, country, orbit
+ * type, launch site, geohash, object type), fixed-width numeric sections (longitude, average longitude,
+ * launch year, days old, conjunction count), one byte of flags per row (nominated, has
+ * dossier, unknown object) and a trailing CRC-32 of everything before it.
+ * Snapshots are limited to 2 GB, the size of a single mapped buffer; larger catalogs fall
+ * back to parsing the CSV file.</p>
+ */
+class CatalogSnapshot {
+    private static final int MAGIC = 0x52534F53; // "RSOS"
+    private static final int VERSION = 2;
+    private static final int NOMINATED = 1;
+    private static final int HAS_DOSSIER = 2;
+    private static final int UNK_OBJECT = 4;
+
+    private CatalogSnapshot() {
+    }
+
+    /**
+     * Writes a snapshot of the given catalog. The file is written to a temporary name and
+     * moved into place, so readers never see a partial snapshot.
+     *
+     * @param snapshotFile The snapshot file to write.
+     * @param sourceFile   The CSV file the catalog was loaded from.
+     * @param catalog      The catalog to save.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    static void write(String snapshotFile, String sourceFile, ColumnarCatalog catalog) throws IOException {
+        File source = new File(sourceFile);
+        int rows = catalog.size();
+
+        StringDictionary strings = new StringDictionary();
+        int[][] stringColumns = new int[7][rows];
+        for (int i = 0; i < rows; i++) {
+            stringColumns[0][i] = strings.encode(catalog.recordId(i));
+            stringColumns[1][i] = strings.encode(catalog.satelliteName(i));
+            stringColumns[2][i] = strings.encode(catalog.country(i));
+            stringColumns[3][i] = strings.encode(catalog.orbitType(i));
+            stringColumns[4][i] = strings.encode(catalog.launchSite(i));
+            stringColumns[5][i] = strings.encode(catalog.geohash(i));
+            stringColumns[6][i] = strings.encode(catalog.objectType(i));
+        }
+
+        Path target = Paths.get(snapshotFile);
+        Path temp = Paths.get(snapshotFile + ".tmp");
+        CRC32 crc = new CRC32();
+        try (BufferedOutputStream file = new BufferedOutputStream(new FileOutputStream(temp.toFile()), 1 << 16)) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, crc));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(source.length());
+            out.writeLong(source.lastModified());
+            out.writeInt(rows);
+
+            out.writeInt(strings.size());
+            for (int code = 1; code < strings.size(); code++) {
+                byte[] bytes = strings.decode(code).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            for (int[] column : stringColumns) {
+                for (int value : column) out.writeInt(value);
+            }
+            for (int i = 0; i < rows; i++) out.writeDouble(catalog.longitude(i));
+            for (int i = 0; i < rows; i++) out.writeDouble(catalog.avgLongitude(i));
+            for (int i = 0; i < rows; i++) out.writeInt(catalog.launchYear(i));
+            for (int i = 0; i < rows; i++) out.writeInt(catalog.daysOld(i));
+            for (int i = 0; i < rows; i++) out.writeLong(catalog.conjunctionCount(i));
+            for (int i = 0; i < rows; i++) {
+                out.writeByte((catalog.nominated(i) ? NOMINATED : 0) | (catalog.hasDossier(i) ? HAS_DOSSIER : 0)
+                        | (catalog.unkObject(i) ? UNK_OBJECT : 0));
+            }
+
+            out.flush();
+            // The checksum itself is written past the checked stream.
+            new DataOutputStream(file).writeLong(crc.getValue());
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Memory-maps a snapshot and adds its objects to the given tracking system.
+     *
+     * @param snapshotFile   The snapshot file to read.
+     * @param sourceFile     The CSV file the snapshot must have been built from.
+     * @param trackingSystem The tracking system to populate.
+     * @return {@code true} if the snapshot was loaded; {@code false} if it is missing, stale
+     *         or corrupt, in which case the tracking system is left unchanged.
+     * @throws IOException If the snapshot exists but cannot be read.
+     */
+    static boolean read(String snapshotFile, String sourceFile, TrackingSystem trackingSystem) throws IOException {
+        Path path = Paths.get(snapshotFile);
+        File source = new File(sourceFile);
+        if (!Files.isRegularFile(path) || !source.isFile()) return false;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < 36 || length > Integer.MAX_VALUE) return false;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) return false;
+            if (buffer.getLong(8) != source.length() || buffer.getLong(16) != source.lastModified()) return false;
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, (int) (length - 8)));
+            if (crc.getValue() != buffer.getLong((int) (length - 8))) return false;
+
+            buffer.position(24);
+            int rows = buffer.getInt();
+            String[] strings = new String[buffer.getInt()];
+            for (int code = 1; code < strings.length; code++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[code] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int stringSections = buffer.position();
+            int numericSections = stringSections + 7 * 4 * rows;
+            int avgLongitudes = numericSections + 8 * rows;
+            int launchYears = avgLongitudes + 8 * rows;
+            int daysOld = launchYears + 4 * rows;
+            int conjunctions = daysOld + 4 * rows;
+            int flags = conjunctions + 8 * rows;
+
+            for (int i = 0; i < rows; i++) {
+                String type = strings[buffer.getInt(stringSections + (6 * rows + i) * 4)];
+                SpaceObject obj = SpaceObjectFactory.getFactory(type).create(
+                    strings[buffer.getInt(stringSections + i * 4)],
+                    strings[buffer.getInt(stringSections + (rows + i) * 4)],
+                    strings[buffer.getInt(stringSections + (2 * rows + i) * 4)],
+                    strings[buffer.getInt(stringSections + (3 * rows + i) * 4)],
+                    buffer.getInt(launchYears + i * 4),
+                    strings[buffer.getInt(stringSections + (4 * rows + i) * 4)],
+                    buffer.getDouble(numericSections + i * 8),
+                    buffer.getDouble(avgLongitudes + i * 8),
+                    strings[buffer.getInt(stringSections + (5 * rows + i) * 4)],
+                    buffer.getInt(daysOld + i * 4),
+                    buffer.getLong(conjunctions + i * 8)
+                );
+                byte rowFlags = buffer.get(flags + i);
+                obj.setNominated((rowFlags & NOMINATED) != 0);
+                obj.setHasDossier((rowFlags & HAS_DOSSIER) != 0);
+                obj.setUnkObject((rowFlags & UNK_OBJECT) != 0);
+                trackingSystem.addObject(type, obj);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The {@code CatalogView} class is a materialized view over a {@link TrackingSystem}: the set
+ * of tracked objects that satisfy a definition, kept up to date as objects are inserted,
+ * updated and deleted. Reading the view or its size costs nothing beyond the read itself;
+ * each catalog change costs one evaluation of the definition.
+ *
+ * <p>Views are created with {@link TrackingSystem#registerView(String, Predicate)}. Members
+ * are kept in the order they joined the view.</p>
+ */
+public class CatalogView implements CatalogListener {
+    private final String name;
+    private final Predicate<? super SpaceObject> definition;
+    private final Set<SpaceObject> members = new LinkedHashSet<>();
+
+    /**
+     * Constructs an empty view.
+     *
+     * @param name       The name the view is registered under.
+     * @param definition The condition objects must satisfy to be members.
+     */
+    CatalogView(String name, Predicate<? super SpaceObject> definition) {
+        this.name = name;
+        this.definition = definition;
+    }
+
+    /**
+     * Gets the name the view is registered under.
+     *
+     * @return The view name.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Gets the number of objects in the view.
+     *
+     * @return The view size.
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Checks whether an object is in the view.
+     *
+     * @param obj The object to check.
+     * @return {@code true} if the object is a member.
+     */
+    public boolean contains(SpaceObject obj) {
+        return members.contains(obj);
+    }
+
+    /**
+     * Gets the objects in the view.
+     *
+     * @return A read-only live view of the members.
+     */
+    public Collection<SpaceObject> objects() {
+        return Collections.unmodifiableSet(members);
+    }
+
+    @Override
+    public void objectAdded(SpaceObject obj) {
+        if (definition.test(obj)) members.add(obj);
+    }
+
+    @Override
+    public void objectRemoved(SpaceObject obj) {
+        members.remove(obj);
+    }
+}
@@ -0,0 +1,226 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * The {@code ColumnarCatalog} class is a struct-of-arrays copy of the tracked catalog.
+ * Numeric attributes are held in primitive arrays and low-cardinality strings are kept as
+ * their {@link CatalogDictionaries} codes, so scans and aggregations walk contiguous memory instead of
+ * dereferencing one {@code SpaceObject} per row.
+ *
+ * <p>Rows are exposed to existing code as lightweight {@link Satellite} flyweights, and
+ * the originating {@code SpaceObject} of each row is available through {@link #object(int)}.
+ * A catalog is an immutable snapshot; {@link TrackingSystem#getColumnarCatalog()} rebuilds
+ * it after the tracked objects change.</p>
+ */
+public class ColumnarCatalog {
+    private final int size;
+    private final SpaceObject[] objects;
+    private final String[] recordIds;
+    private final String[] satelliteNames;
+    private final String[] geohashes;
+    private final long[] geoCells;
+    private final int[] countryCodes;
+    private final int[] orbitTypeCodes;
+    private final int[] launchSiteCodes;
+    private final int[] objectTypeCodes;
+    private final double[] longitudes;
+    private final double[] avgLongitudes;
+    private final int[] launchYears;
+    private final int[] daysOld;
+    private final long[] conjunctionCounts;
+    private final boolean[] nominated;
+    private final boolean[] hasDossier;
+    private final boolean[] unkObject;
+
+    /**
+     * Constructs a new {@code ColumnarCatalog} from the given objects.
+     *
+     * @param objects The catalog objects, in row order.
+     */
+    ColumnarCatalog(List<SpaceObject> objects) {
+        size = objects.size();
+        this.objects = objects.toArray(new SpaceObject[0]);
+        recordIds = new String[size];
+        satelliteNames = new String[size];
+        geohashes = new String[size];
+        geoCells = new long[size];
+        countryCodes = new int[size];
+        orbitTypeCodes = new int[size];
+        launchSiteCodes = new int[size];
+        objectTypeCodes = new int[size];
+        longitudes = new double[size];
+        avgLongitudes = new double[size];
+        launchYears = new int[size];
+        daysOld = new int[size];
+        conjunctionCounts = new long[size];
+        nominated = new boolean[size];
+        hasDossier = new boolean[size];
+        unkObject = new boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            SpaceObject obj = this.objects[i];
+            recordIds[i] = obj.getRecordId();
+            satelliteNames[i] = obj.getSatelliteName();
+            geohashes[i] = obj.getGeohash();
+            geoCells[i] = obj.getGeoCell();
+            countryCodes[i] = obj.getCountryCode();
+            orbitTypeCodes[i] = obj.getOrbitTypeCode();
+            launchSiteCodes[i] = obj.getLaunchSiteCode();
+            objectTypeCodes[i] = obj.getObjectTypeCode();
+            longitudes[i] = obj.getLongitude();
+            avgLongitudes[i] = obj.getAvgLongitude();
+            launchYears[i] = obj.getLaunchYear();
+            daysOld[i] = obj.getDaysOld();
+            conjunctionCounts[i] = obj.getConjunctionCount();
+            nominated[i] = obj.isNominated();
+            hasDossier[i] = obj.hasDossier();
+            unkObject[i] = obj.isUnkObject();
+        }
+    }
+
+    /**
+     * Gets the number of rows in the catalog.
+     *
+     * @return The row count.
+     */
+    public int size() { return size; }
+
+    /**
+     * Gets the space object a row was built from.
+     *
+     * @param row The row index.
+     * @return The originating space object.
+     */
+    public SpaceObject object(int row) { return objects[row]; }
+
+    /**
+     * Gets a flyweight view of a row.
+     *
+     * @param row The row index.
+     * @return A {@code Satellite} that reads its attributes from the catalog columns.
+     */
+    public Satellite get(int row) { return new Entry(row); }
+
+    /**
+     * Gets flyweight views of the given rows.
+     *
+     * @param rows The row indexes.
+     * @return A list of {@code Satellite} views, in the order of {@code rows}.
+     */
+    public List<Satellite> entries(int[] rows) {
+        List<Satellite> result = new ArrayList<>(rows.length);
+        for (int row : rows) result.add(new Entry(row));
+        return result;
+    }
+
+    /**
+     * Finds all rows that satisfy a predicate on the row index.
+     *
+     * @param predicate The row predicate, typically reading the primitive column accessors.
+     * @return The matching row indexes, in ascending order.
+     */
+    public int[] filter(IntPredicate predicate) {
+        int[] rows = new int[16];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(i)) {
+                if (count == rows.length) rows = Arrays.copyOf(rows, count * 2);
+                rows[count++] = i;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Finds all rows in the given orbit type, comparing dictionary codes.
+     *
+     * @param orbitType The orbit type, e.g. "LEO"; matched case-insensitively.
+     * @return The matching row indexes, in ascending order.
+     */
+    public int[] rowsWithOrbitType(String orbitType) {
+        StringDictionary orbitTypes = CatalogDictionaries.ORBIT_TYPES;
+        int target = orbitTypes.findIgnoreCase(orbitType);
+        if (target < 0) return new int[0];
+        return filter(i -> orbitTypes.foldedCode(orbitTypeCodes[i]) == target);
+    }
+
+    /**
+     * Computes the mean age in days over the given rows.
+     *
+     * @param rows The row indexes.
+     * @return The average {@code days_old}, or {@code 0} if {@code rows} is empty.
+     */
+    public double averageDaysOld(int[] rows) {
+        if (rows.length == 0) return 0;
+        long total = 0;
+        for (int row : rows) total += daysOld[row];
+        return (double) total / rows.length;
+    }
+
+    /**
+     * Sums the conjunction counts over the given rows.
+     *
+     * @param rows The row indexes.
+     * @return The total conjunction count.
+     */
+    public long totalConjunctions(int[] rows) {
+        long total = 0;
+        for (int row : rows) total += conjunctionCounts[row];
+        return total;
+    }
+
+    // Column accessors, one value per row.
+
+    public String recordId(int row) { return recordIds[row]; }
+    public String satelliteName(int row) { return satelliteNames[row]; }
+    public String geohash(int row) { return geohashes[row]; }
+    public long geoCell(int row) { return geoCells[row]; }
+    public String country(int row) { return CatalogDictionaries.COUNTRIES.decode(countryCodes[row]); }
+    public String orbitType(int row) { return CatalogDictionaries.ORBIT_TYPES.decode(orbitTypeCodes[row]); }
+    public String launchSite(int row) { return CatalogDictionaries.LAUNCH_SITES.decode(launchSiteCodes[row]); }
+    public String objectType(int row) { return CatalogDictionaries.OBJECT_TYPES.decode(objectTypeCodes[row]); }
+    public int countryCode(int row) { return countryCodes[row]; }
+    public int orbitTypeCode(int row) { return orbitTypeCodes[row]; }
+    public int launchSiteCode(int row) { return launchSiteCodes[row]; }
+    public int objectTypeCode(int row) { return objectTypeCodes[row]; }
+    public double longitude(int row) { return longitudes[row]; }
+    public double avgLongitude(int row) { return avgLongitudes[row]; }
+    public int launchYear(int row) { return launchYears[row]; }
+    public int daysOld(int row) { return daysOld[row]; }
+    public long conjunctionCount(int row) { return conjunctionCounts[row]; }
+    public boolean nominated(int row) { return nominated[row]; }
+    public boolean hasDossier(int row) { return hasDossier[row]; }
+    public boolean unkObject(int row) { return unkObject[row]; }
+
+    /**
+     * A {@code Satellite} flyweight that reads one row of the catalog columns.
+     */
+    private class Entry implements Satellite {
+        private final int row;
+
+        Entry(int row) {
+            this.row = row;
+        }
+
+        @Override public String getRecordId() { return recordIds[row]; }
+        @Override public String getSatelliteName() { return satelliteNames[row]; }
+        @Override public String getCountry() { return country(row); }
+        @Override public String getOrbitType() { return orbitType(row); }
+        @Override public int getLaunchYear() { return launchYears[row]; }
+        @Override public String getLaunchSite() { return launchSite(row); }
+        @Override public double getLongitude() { return longitudes[row]; }
+        @Override public double getAvgLongitude() { return avgLongitudes[row]; }
+        @Override public String getGeohash() { return geohashes[row]; }
+        @Override public int getDaysOld() { return daysOld[row]; }
+        @Override public long getConjunctionCount() { return conjunctionCounts[row]; }
+
+        @Override
+        public void displayInfo() {
+            objects[row].displayInfo();
+        }
+    }
+}
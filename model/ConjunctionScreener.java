@@ -0,0 +1,213 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code ConjunctionScreener} class finds close approaches between catalog objects from
+ * their decoded positions. Two objects are in conjunction when they share an orbit type
+ * (compared case-insensitively) and lie within the screening distance of each other in both
+ * latitude and longitude, with longitude measured across the date line.
+ *
+ * <p>Positioned objects are binned into a grid per orbit type whose cells are at least the
+ * screening distance wide, so every partner of an object lies in its own cell or one of the
+ * eight around it. Screening therefore compares each object only with the occupants of
+ * nine cells, which is linear in the catalog size for a catalog that is not crowded into a
+ * few cells. The grid is stored as one row array grouped by cell, with the decoded
+ * positions alongside, and cells are screened in parallel. Objects whose geohash does not
+ * decode are not screened.</p>
+ */
+public class ConjunctionScreener {
+    private static final int BIN_BITS = 21;
+
+    private final ColumnarCatalog catalog;
+    private final double distance;
+    private final int latitudeBins;
+    private final int longitudeBins;
+    private final Map<Long, Integer> cellIndex = new HashMap<>();
+    private long[] cellKeys = new long[16];
+    private final int[] cellStarts;
+    private final int[] members;
+    private final double[] memberLatitudes;
+    private final double[] memberLongitudes;
+
+    /**
+     * Bins the positioned objects of a catalog into a screening grid.
+     *
+     * @param catalog  The catalog to screen.
+     * @param distance The screening distance in degrees.
+     * @throws IllegalArgumentException If the distance is not positive or too small to grid.
+     */
+    public ConjunctionScreener(ColumnarCatalog catalog, double distance) {
+        if (!(distance > 0)) throw new IllegalArgumentException("Screening distance must be positive: " + distance);
+        if (360 / distance >= 1 << BIN_BITS) throw new IllegalArgumentException("Screening distance too small: " + distance);
+        this.catalog = catalog;
+        this.distance = distance;
+        // Bins at least as wide as the distance, so partners are at most one bin apart.
+        latitudeBins = Math.max(1, (int) (180 / distance));
+        longitudeBins = Math.max(1, (int) (360 / distance));
+
+        int[] rowCells = new int[catalog.size()];
+        int[] cellSizes = new int[16];
+        int positioned = 0;
+        for (int row = 0; row < catalog.size(); row++) {
+            long cell = catalog.geoCell(row);
+            if (cell == GeoCell.NO_CELL) {
+                rowCells[row] = -1;
+                continue;
+            }
+            long key = key(CatalogDictionaries.ORBIT_TYPES.foldedCode(catalog.orbitTypeCode(row)),
+                    latitudeBin(GeoCell.latitude(cell)), longitudeBin(GeoCell.longitude(cell)));
+            Integer index = cellIndex.get(key);
+            if (index == null) {
+                index = cellIndex.size();
+                cellIndex.put(key, index);
+                if (index == cellKeys.length) {
+                    cellKeys = Arrays.copyOf(cellKeys, index * 2);
+                    cellSizes = Arrays.copyOf(cellSizes, index * 2);
+                }
+                cellKeys[index] = key;
+            }
+            rowCells[row] = index;
+            cellSizes[index]++;
+            positioned++;
+        }
+
+        int cells = cellIndex.size();
+        cellStarts = new int[cells + 1];
+        for (int c = 0; c < cells; c++) cellStarts[c + 1] = cellStarts[c] + cellSizes[c];
+        members = new int[positioned];
+        memberLatitudes = new double[positioned];
+        memberLongitudes = new double[positioned];
+        int[] next = Arrays.copyOf(cellStarts, cells);
+        for (int row = 0; row < catalog.size(); row++) {
+            if (rowCells[row] < 0) continue;
+            int slot = next[rowCells[row]]++;
+            long cell = catalog.geoCell(row);
+            members[slot] = row;
+            memberLatitudes[slot] = GeoCell.latitude(cell);
+            memberLongitudes[slot] = GeoCell.longitude(cell);
+        }
+    }
+
+    /**
+     * Gets the catalog this screener was built over.
+     *
+     * @return The screened catalog.
+     */
+    public ColumnarCatalog catalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the number of screened objects, i.e. those with a decodable position.
+     *
+     * @return The number of objects in the grid.
+     */
+    public int size() {
+        return members.length;
+    }
+
+    /**
+     * Counts the conjunctions of every catalog row.
+     *
+     * @return The number of close approaches per catalog row, {@code -1} for rows that were
+     *         not screened.
+     */
+    public int[] counts() {
+        int[] counts = new int[catalog.size()];
+        Arrays.fill(counts, -1);
+        // Every task writes only the rows of its own cell.
+        IntStream.range(0, cellIndex.size()).parallel().forEach(c -> {
+            int[] neighbours = neighbours(c);
+            for (int i = cellStarts[c]; i < cellStarts[c + 1]; i++) {
+                int count = 0;
+                for (int n : neighbours) {
+                    for (int j = cellStarts[n]; j < cellStarts[n + 1]; j++) {
+                        if (j != i && close(i, j)) count++;
+                    }
+                }
+                counts[members[i]] = count;
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Finds the objects in conjunction with one catalog row.
+     *
+     * @param row The catalog row.
+     * @return The partner rows, in ascending order; empty if the row was not screened.
+     */
+    public int[] partners(int row) {
+        long cell = catalog.geoCell(row);
+        if (cell == GeoCell.NO_CELL) return new int[0];
+        Integer c = cellIndex.get(key(CatalogDictionaries.ORBIT_TYPES.foldedCode(catalog.orbitTypeCode(row)),
+                latitudeBin(GeoCell.latitude(cell)), longitudeBin(GeoCell.longitude(cell))));
+        int self = Arrays.binarySearch(members, cellStarts[c], cellStarts[c + 1], row);
+        int[] result = new int[16];
+        int count = 0;
+        for (int n : neighbours(c)) {
+            for (int j = cellStarts[n]; j < cellStarts[n + 1]; j++) {
+                if (j == self || !close(self, j)) continue;
+                if (count == result.length) result = Arrays.copyOf(result, count * 2);
+                result[count++] = members[j];
+            }
+        }
+        result = Arrays.copyOf(result, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Checks whether two grid slots are within the screening distance of each other.
+     */
+    private boolean close(int i, int j) {
+        if (Math.abs(memberLatitudes[i] - memberLatitudes[j]) > distance) return false;
+        double longitudeGap = Math.abs(memberLongitudes[i] - memberLongitudes[j]);
+        return Math.min(longitudeGap, 360 - longitudeGap) <= distance;
+    }
+
+    /**
+     * Finds the occupied cells of the same orbit type around a cell, including the cell.
+     */
+    private int[] neighbours(int c) {
+        long key = cellKeys[c];
+        int orbit = (int) (key >>> 2 * BIN_BITS);
+        int latitudeBin = (int) (key >>> BIN_BITS) & ((1 << BIN_BITS) - 1);
+        int longitudeBin = (int) key & ((1 << BIN_BITS) - 1);
+        int[] result = new int[9];
+        int count = 0;
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            int lat = latitudeBin + dLat;
+            if (lat < 0 || lat >= latitudeBins) continue;
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                // Longitude bins wrap around the date line.
+                Integer n = cellIndex.get(key(orbit, lat, Math.floorMod(longitudeBin + dLon, longitudeBins)));
+                if (n != null && !contains(result, count, n)) result[count++] = n;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    private int latitudeBin(double latitude) {
+        return Math.min(latitudeBins - 1, Math.max(0, (int) ((latitude + 90) * latitudeBins / 180)));
+    }
+
+    private int longitudeBin(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) * longitudeBins / 360), longitudeBins);
+    }
+
+    private static long key(int orbitType, int latitudeBin, int longitudeBin) {
+        return (long) orbitType << 2 * BIN_BITS | (long) latitudeBin << BIN_BITS | longitudeBin;
+    }
+}
@@ -0,0 +1,282 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * The {@code CsvReader} class is a single-pass, quote-aware CSV tokenizer that follows RFC 4180.
+ * Records are read one at a time into a reusable character buffer, so iterating a file does not
+ * allocate per line or per field. Quoted fields may contain commas, doubled quotes ({@code ""})
+ * and line breaks. A leading byte order mark on the first record is ignored.
+ *
+ * <p>Field values are exposed either as {@code String}s or as raw character ranges over
+ * {@link #buffer()}, which stay valid until the next call to {@link #next()}.</p>
+ */
+public class CsvReader implements Closeable {
+    private static final int READ_SIZE = 64 * 1024;
+
+    private final Reader in;
+    private final char[] input = new char[READ_SIZE];
+    private int inputPos;
+    private int inputLimit;
+    private boolean eof;
+
+    private char[] record = new char[256];
+    private int recordLength;
+    private int[] starts = new int[32];
+    private int[] ends = new int[32];
+    private int fieldCount;
+    private boolean firstRecord = true;
+    private boolean unterminated;
+    private final CharSequence chars = new RecordChars();
+
+    /**
+     * Constructs a new {@code CsvReader} over the given character stream.
+     *
+     * @param in The reader supplying CSV text.
+     */
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Advances to the next record. Blank lines are skipped.
+     *
+     * @return {@code true} if a record was read, {@code false} at end of input.
+     * @throws IOException If the underlying reader fails.
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            if (!readRecord()) return false;
+            if (fieldCount > 1 || ends[0] > starts[0]) return true;
+        }
+    }
+
+    /**
+     * Gets the number of fields in the current record.
+     *
+     * @return The field count.
+     */
+    public int fieldCount() { return fieldCount; }
+
+    /**
+     * Gets the character buffer holding the current record's field contents.
+     *
+     * @return The shared record buffer; overwritten by the next call to {@link #next()}.
+     */
+    public char[] buffer() { return record; }
+
+    /**
+     * Gets a character sequence view of {@link #buffer()}, for parsing field ranges in place
+     * with {@link FieldParser}. The same view is returned for every record.
+     *
+     * @return The record buffer as a {@code CharSequence}.
+     */
+    public CharSequence chars() { return chars; }
+
+    /**
+     * Gets the start offset of a field in {@link #buffer()}, skipping leading whitespace.
+     *
+     * @param i The field index.
+     * @return The inclusive start offset.
+     */
+    public int start(int i) {
+        int s = starts[i], e = ends[i];
+        while (s < e && record[s] <= ' ') s++;
+        return s;
+    }
+
+    /**
+     * Gets the end offset of a field in {@link #buffer()}, skipping trailing whitespace.
+     *
+     * @param i The field index.
+     * @return The exclusive end offset.
+     */
+    public int end(int i) {
+        int s = starts[i], e = ends[i];
+        while (e > s && record[e - 1] <= ' ') e--;
+        return e;
+    }
+
+    /**
+     * Checks whether a field is missing or contains only whitespace.
+     *
+     * @param i The field index.
+     * @return {@code true} if the field has no content.
+     */
+    public boolean isEmpty(int i) {
+        return i >= fieldCount || start(i) >= end(i);
+    }
+
+    /**
+     * Gets a trimmed field value of the current record.
+     *
+     * @param i The field index.
+     * @return The field value, or an empty string if the record has fewer fields.
+     */
+    public String field(int i) {
+        if (i >= fieldCount) return "";
+        int s = start(i);
+        return new String(record, s, end(i) - s);
+    }
+
+    /**
+     * Checks whether input ended inside a quoted field, i.e. the last record read was cut
+     * short by end of input rather than closed by a line break.
+     *
+     * @return {@code true} if the input ended inside quotes.
+     */
+    public boolean endedInQuotes() { return unterminated; }
+
+    /**
+     * Computes a 64-bit FNV-1a hash over the current record's field contents.
+     * Two records with identical field values produce the same hash.
+     *
+     * @return The record hash.
+     */
+    public long recordHash() {
+        long h = 0xcbf29ce484222325L;
+        for (int f = 0; f < fieldCount; f++) {
+            for (int i = starts[f], e = ends[f]; i < e; i++) {
+                h = (h ^ record[i]) * 0x100000001b3L;
+            }
+            h = (h ^ ',') * 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * Formats the current record's fields for diagnostics.
+     *
+     * @return The fields of the current record, e.g. {@code [10096, SL-14 R/B, CIS]}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < fieldCount; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(field(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Reads one physical record, which may span several lines when fields are quoted.
+     */
+    private boolean readRecord() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+        if (!fill()) return false;
+
+        if (firstRecord) {
+            firstRecord = false;
+            if (input[inputPos] == '\uFEFF') inputPos++;
+        }
+
+        int fieldStart = 0;
+        boolean quoted = false;
+        while (true) {
+            if (inputPos >= inputLimit && !fill()) {
+                unterminated = quoted;
+                endField(fieldStart);
+                return true;
+            }
+            char c = input[inputPos++];
+            if (quoted) {
+                if (c == '"') {
+                    if ((inputPos < inputLimit || fill()) && input[inputPos] == '"') {
+                        inputPos++;
+                        append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    append(c);
+                }
+            } else if (c == ',') {
+                endField(fieldStart);
+                fieldStart = recordLength;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && (inputPos < inputLimit || fill()) && input[inputPos] == '\n') inputPos++;
+                endField(fieldStart);
+                return true;
+            } else if (c == '"' && onlyWhitespaceSince(fieldStart)) {
+                recordLength = fieldStart;
+                quoted = true;
+            } else {
+                append(c);
+            }
+        }
+    }
+
+    private boolean onlyWhitespaceSince(int fieldStart) {
+        for (int i = fieldStart; i < recordLength; i++) {
+            if (record[i] > ' ') return false;
+        }
+        return true;
+    }
+
+    private void append(char c) {
+        if (recordLength == record.length) {
+            char[] grown = new char[record.length * 2];
+            System.arraycopy(record, 0, grown, 0, recordLength);
+            record = grown;
+        }
+        record[recordLength++] = c;
+    }
+
+    private void endField(int fieldStart) {
+        if (fieldCount == starts.length) {
+            int[] s = new int[starts.length * 2];
+            int[] e = new int[ends.length * 2];
+            System.arraycopy(starts, 0, s, 0, fieldCount);
+            System.arraycopy(ends, 0, e, 0, fieldCount);
+            starts = s;
+            ends = e;
+        }
+        starts[fieldCount] = fieldStart;
+        ends[fieldCount] = recordLength;
+        fieldCount++;
+    }
+
+    private boolean fill() throws IOException {
+        if (inputPos < inputLimit) return true;
+        if (eof) return false;
+        int n = in.read(input, 0, input.length);
+        if (n <= 0) {
+            eof = true;
+            return false;
+        }
+        inputPos = 0;
+        inputLimit = n;
+        return true;
+    }
+
+    /**
+     * A view of the record buffer that follows it when it is reallocated.
+     */
+    private class RecordChars implements CharSequence {
+        @Override
+        public int length() { return recordLength; }
+
+        @Override
+        public char charAt(int index) { return record[index]; }
+
+        @Override
+        public CharSequence subSequence(int start, int end) { return new String(record, start, end - start); }
+
+        @Override
+        public String toString() { return new String(record, 0, recordLength); }
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException If closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
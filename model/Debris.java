@@ -5,7 +5,8 @@ package model;
  */
 public class Debris extends SpaceObject {
     private boolean stillInOrbit;
-    private String riskLevel;
+    private RiskLevel riskLevel;
+    private double riskScore;
 
     /**
      * Constructs a new {@code Debris} object with the specified parameters.
@@ -47,22 +48,65 @@ public class Debris extends SpaceObject {
         this.stillInOrbit = stillInOrbit;
     }
 
+    /**
+     * Checks whether the debris' tracked attributes indicate that it is still in orbit: it
+     * has an orbit type and a non-zero longitude, is younger than 15000 days and has been
+     * involved in at least one conjunction.
+     *
+     * @return {@code true} if the debris meets the in-orbit criteria.
+     */
+    public boolean meetsInOrbitCriteria() {
+        String orbitType = getOrbitType();
+        return orbitType != null && !orbitType.isEmpty()
+                && getLongitude() != 0 && getDaysOld() < 15000 && getConjunctionCount() >= 1;
+    }
+
     /**
      * Gets the risk level of the debris.
      *
-     * @return The risk level of the debris.
+     * @return The label of the risk level, e.g. "High", or {@code null} if not assessed.
      */
     public String getRiskLevel() {
-        return riskLevel;
+        return riskLevel == null ? null : riskLevel.getLabel();
     }
 
     /**
-     * Sets the risk level of the debris.
+     * Sets the risk level of the debris. Labels are matched ignoring case; a label that names
+     * no {@link RiskLevel} leaves the debris unassessed.
      *
-     * @param riskLevel The risk level to set for the debris.
+     * @param riskLevel The label of the risk level to set for the debris, e.g. "High".
      */
     public void setRiskLevel(String riskLevel) {
+        this.riskLevel = RiskLevel.find(riskLevel);
+    }
+
+    /**
+     * Gets the risk level of the debris.
+     *
+     * @return The risk level, or {@code null} if not assessed.
+     */
+    public RiskLevel getRisk() {
+        return riskLevel;
+    }
+
+    /**
+     * Gets the score the risk level was assigned from.
+     *
+     * @return The risk score of the assessing {@link RiskModel}.
+     */
+    public double getRiskScore() {
+        return riskScore;
+    }
+
+    /**
+     * Sets the risk of the debris as assessed by a {@link RiskModel}.
+     *
+     * @param riskLevel The risk level.
+     * @param riskScore The score the level was assigned from.
+     */
+    public void setRisk(RiskLevel riskLevel, double riskScore) {
         this.riskLevel = riskLevel;
+        this.riskScore = riskScore;
     }
 
     /**
@@ -83,6 +127,6 @@ public class Debris extends SpaceObject {
                 + "\nDays Old: " + getDaysOld()
                 + "\nConjunction Count: " + getConjunctionCount()
                 + "\nStill In Orbit: " + (stillInOrbit ? "Yes" : "No")
-                + "\nRisk Level: " + riskLevel);
+                + "\nRisk Level: " + getRiskLevel());
     }
 }
@@ -0,0 +1,239 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The {@code DebrisAssessment} class keeps the result of assessing a list of debris up to
+ * date across repeated assessments. It remembers the {@link SpaceObject#getModCount()} of
+ * every piece it assessed; a later {@link #assess(List)} hands only the pieces that changed
+ * since, or are new, to {@link DebrisAssessor}, and patches the in-orbit and risk level
+ * counts by the difference. Pieces that left the list are subtracted from the counts.
+ *
+ * <p>Report rows formatted through {@link #reportRow} are cached per piece and reformatted
+ * only after the piece has been reassessed, and {@link #isChanged()} tells callers whether
+ * previously written reports are still current. Re-assessing a stable list therefore costs
+ * one pass comparing modification counts.</p>
+ */
+public class DebrisAssessment {
+    private final Predicate<? super Debris> inOrbit;
+    private final RiskPipeline pipeline;
+    private final int models;
+    private Debris[] pieces = new Debris[0];
+    private int[] modCounts = new int[0];
+    private boolean[] inOrbitFlags = new boolean[0];
+    private byte[][] levels;
+    private String[] reportRows = new String[0];
+    private final int[][] levelCounts;
+    private int inOrbitCount;
+    private int reassessed;
+    private boolean changed;
+
+    /**
+     * Constructs an empty assessment.
+     *
+     * @param inOrbit  Decides whether a piece of debris is still in orbit; called from several
+     *                 threads at once.
+     * @param pipeline The risk models to evaluate; the first one sets the level stored on
+     *                 the debris.
+     */
+    public DebrisAssessment(Predicate<? super Debris> inOrbit, RiskPipeline pipeline) {
+        this.inOrbit = inOrbit;
+        this.pipeline = pipeline;
+        this.models = pipeline.models().size();
+        this.levels = new byte[models][0];
+        this.levelCounts = new int[models][RiskLevel.values().length];
+    }
+
+    /**
+     * Brings the assessment up to date with a list of debris, reassessing only the pieces
+     * that are new or were modified since they were last assessed.
+     *
+     * @param debris The debris to assess, in report order; must not be changed concurrently.
+     * @return The number of pieces that were reassessed.
+     */
+    public int assess(List<? extends Debris> debris) {
+        Debris[] next = debris.toArray(new Debris[0]);
+        int[] source = new int[next.length];
+        boolean[] kept = new boolean[pieces.length];
+        Map<Debris, Integer> previous = null;
+        List<Debris> dirty = new ArrayList<>();
+        int[] dirtyIndexes = new int[next.length];
+        boolean moved = next.length != pieces.length;
+
+        for (int i = 0; i < next.length; i++) {
+            Debris d = next[i];
+            int p = -1;
+            if (i < pieces.length && pieces[i] == d) {
+                p = i;
+            } else {
+                // Only a reordered or resized list pays for the identity lookup.
+                if (previous == null) previous = indexPieces();
+                p = previous.getOrDefault(d, -1);
+                moved = true;
+            }
+            if (p >= 0 && !kept[p] && modCounts[p] == d.getModCount()) {
+                kept[p] = true;
+                source[i] = p;
+            } else {
+                source[i] = -1;
+                dirtyIndexes[dirty.size()] = i;
+                dirty.add(d);
+            }
+        }
+
+        int removed = 0;
+        for (int p = 0; p < pieces.length; p++) {
+            if (kept[p]) continue;
+            removed++;
+            if (inOrbitFlags[p]) inOrbitCount--;
+            for (int m = 0; m < models; m++) levelCounts[m][levels[m][p]]--;
+        }
+
+        int[] nextModCounts = new int[next.length];
+        boolean[] nextInOrbit = new boolean[next.length];
+        byte[][] nextLevels = new byte[models][next.length];
+        String[] nextRows = new String[next.length];
+        for (int i = 0; i < next.length; i++) {
+            int p = source[i];
+            if (p < 0) continue;
+            nextModCounts[i] = modCounts[p];
+            nextInOrbit[i] = inOrbitFlags[p];
+            for (int m = 0; m < models; m++) nextLevels[m][i] = levels[m][p];
+            nextRows[i] = reportRows[p];
+        }
+
+        if (!dirty.isEmpty()) {
+            RiskPipeline.Result risks = DebrisAssessor.assess(dirty, inOrbit, pipeline);
+            for (int k = 0; k < dirty.size(); k++) {
+                Debris d = dirty.get(k);
+                int i = dirtyIndexes[k];
+                nextModCounts[i] = d.getModCount();
+                nextInOrbit[i] = d.isStillInOrbit();
+                if (nextInOrbit[i]) inOrbitCount++;
+                for (int m = 0; m < models; m++) {
+                    RiskLevel level = risks.level(m, k);
+                    nextLevels[m][i] = (byte) level.ordinal();
+                    levelCounts[m][level.ordinal()]++;
+                }
+            }
+        }
+
+        pieces = next;
+        modCounts = nextModCounts;
+        inOrbitFlags = nextInOrbit;
+        levels = nextLevels;
+        reportRows = nextRows;
+        reassessed = dirty.size();
+        changed = moved || removed > 0 || !dirty.isEmpty();
+        return reassessed;
+    }
+
+    private Map<Debris, Integer> indexPieces() {
+        Map<Debris, Integer> index = new IdentityHashMap<>(pieces.length * 2);
+        for (int p = pieces.length - 1; p >= 0; p--) index.put(pieces[p], p);
+        return index;
+    }
+
+    /**
+     * Checks whether the last {@link #assess(List)} changed anything: a piece was
+     * reassessed, added, removed or moved. The first assessment always counts as a change.
+     *
+     * @return {@code true} if reports written before the last assessment are out of date.
+     */
+    public boolean isChanged() { return changed; }
+
+    /**
+     * Gets the number of pieces the last {@link #assess(List)} reassessed.
+     *
+     * @return The number of reassessed pieces.
+     */
+    public int reassessed() { return reassessed; }
+
+    /**
+     * Gets the number of assessed pieces.
+     *
+     * @return The assessment size.
+     */
+    public int size() { return pieces.length; }
+
+    /**
+     * Gets an assessed piece of debris.
+     *
+     * @param i The index in the last assessed list.
+     * @return The debris.
+     */
+    public Debris get(int i) { return pieces[i]; }
+
+    /**
+     * Gets the assessed pieces.
+     *
+     * @return The debris, in the order of the last assessed list.
+     */
+    public List<Debris> debris() { return List.copyOf(Arrays.asList(pieces)); }
+
+    /**
+     * Counts the pieces assessed as still in orbit.
+     *
+     * @return The in-orbit count.
+     */
+    public int inOrbitCount() { return inOrbitCount; }
+
+    /**
+     * Counts the pieces assessed as no longer in orbit.
+     *
+     * @return The exited count.
+     */
+    public int exitedCount() { return pieces.length - inOrbitCount; }
+
+    /**
+     * Gets the pieces assessed as no longer in orbit.
+     *
+     * @return The exited debris, in the order of the last assessed list.
+     */
+    public List<Debris> exited() {
+        List<Debris> exited = new ArrayList<>(pieces.length - inOrbitCount);
+        for (int i = 0; i < pieces.length; i++) {
+            if (!inOrbitFlags[i]) exited.add(pieces[i]);
+        }
+        return exited;
+    }
+
+    /**
+     * Gets the risk pipeline the pieces are scored by.
+     *
+     * @return The pipeline.
+     */
+    public RiskPipeline pipeline() { return pipeline; }
+
+    /**
+     * Counts the pieces a model of the pipeline put at a risk level.
+     *
+     * @param model The model index in the pipeline.
+     * @param level The risk level.
+     * @return The number of pieces at the level.
+     */
+    public int count(int model, RiskLevel level) { return levelCounts[model][level.ordinal()]; }
+
+    /**
+     * Gets the report row of a piece, formatting it only if the piece was reassessed since
+     * its row was last formatted. Callers must use the same formatter throughout.
+     *
+     * @param i         The index in the last assessed list.
+     * @param formatter Formats the report row of a piece.
+     * @return The report row.
+     */
+    public String reportRow(int i, Function<? super Debris, String> formatter) {
+        String row = reportRows[i];
+        if (row == null) {
+            row = formatter.apply(pieces[i]);
+            reportRows[i] = row;
+        }
+        return row;
+    }
+}
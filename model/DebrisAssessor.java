@@ -0,0 +1,122 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * The {@code DebrisAssessor} class assesses whether debris is still in orbit and how much risk
+ * it poses. The assessment of one piece of debris depends on nothing but that piece, so a
+ * list is split into ranges that are assessed on the common fork-join pool. Each piece is
+ * written by exactly one task, and the list order is left untouched, so callers can write
+ * reports in a separate sequential phase with the same output as a serial run.
+ *
+ * <p>Risk is scored by a {@link RiskPipeline} in the same pass: every range is scored in
+ * {@link RiskBatch}es by all models of the pipeline, and the first model decides the risk
+ * level stored on the debris.</p>
+ */
+public final class DebrisAssessor {
+    /** Ranges at most this long are assessed without further splitting. */
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    private DebrisAssessor() {
+    }
+
+    /**
+     * Gets the risk level for a longitude drift by {@link RiskModels#DRIFT}: "High" above 50
+     * degrees, "Moderate" above 10 degrees and "Low" otherwise.
+     *
+     * @param drift The absolute longitude drift in degrees.
+     * @return The risk level.
+     */
+    public static RiskLevel riskLevel(double drift) {
+        return RiskModels.DRIFT.level(drift);
+    }
+
+    /**
+     * Assesses every piece of debris in parallel, setting its in-orbit flag and its risk by
+     * {@link RiskModels#DRIFT}.
+     *
+     * @param debris  The debris to assess; must not be changed concurrently.
+     * @param inOrbit Decides whether a piece of debris is still in orbit; called from several
+     *                threads at once.
+     */
+    public static void assess(List<? extends Debris> debris, Predicate<? super Debris> inOrbit) {
+        assess(debris, inOrbit, new RiskPipeline(RiskModels.DRIFT));
+    }
+
+    /**
+     * Assesses every piece of debris in parallel, setting its in-orbit flag and its risk by
+     * the first model of a pipeline.
+     *
+     * @param debris   The debris to assess; must not be changed concurrently.
+     * @param inOrbit  Decides whether a piece of debris is still in orbit; called from several
+     *                 threads at once.
+     * @param pipeline The risk models to evaluate.
+     * @return The scores and levels of every model, indexed like {@code debris}.
+     */
+    public static RiskPipeline.Result assess(List<? extends Debris> debris, Predicate<? super Debris> inOrbit,
+                                             RiskPipeline pipeline) {
+        Debris[] pieces = debris.toArray(new Debris[0]);
+        RiskPipeline.Result risks = pipeline.newResult(pieces.length);
+        if (pieces.length <= SEQUENTIAL_THRESHOLD) {
+            assess(pieces, 0, pieces.length, inOrbit, pipeline, risks);
+        } else {
+            ForkJoinPool.commonPool().invoke(new AssessTask(pieces, 0, pieces.length, inOrbit, pipeline, risks));
+        }
+        return risks;
+    }
+
+    private static void assess(Debris[] pieces, int from, int to, Predicate<? super Debris> inOrbit,
+                               RiskPipeline pipeline, RiskPipeline.Result risks) {
+        List<Debris> list = Arrays.asList(pieces);
+        RiskBatch batch = new RiskBatch();
+        for (int start = from; start < to; start += RiskBatch.CAPACITY) {
+            int end = Math.min(to, start + RiskBatch.CAPACITY);
+            batch.fill(list, start, end);
+            pipeline.evaluate(batch, risks, start);
+            for (int i = start; i < end; i++) {
+                Debris d = pieces[i];
+                d.setStillInOrbit(inOrbit.test(d));
+                d.setRisk(risks.level(0, i), risks.score(0, i));
+            }
+        }
+    }
+
+    /**
+     * Assesses a range of debris, halving it until it is small enough to assess directly.
+     */
+    private static class AssessTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Debris[] pieces;
+        private final int from;
+        private final int to;
+        private final Predicate<? super Debris> inOrbit;
+        private final RiskPipeline pipeline;
+        private final RiskPipeline.Result risks;
+
+        AssessTask(Debris[] pieces, int from, int to, Predicate<? super Debris> inOrbit,
+                   RiskPipeline pipeline, RiskPipeline.Result risks) {
+            this.pieces = pieces;
+            this.from = from;
+            this.to = to;
+            this.inOrbit = inOrbit;
+            this.pipeline = pipeline;
+            this.risks = risks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                assess(pieces, from, to, inOrbit, pipeline, risks);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new AssessTask(pieces, from, mid, inOrbit, pipeline, risks),
+                    new AssessTask(pieces, mid, to, inOrbit, pipeline, risks));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code DriftPropagator} class advances the longitude drift and age of catalog objects
+ * through time to forecast the future state of the catalog.
+ *
+ * <p>Each object is assumed to drift at a constant rate since launch. Its current longitude
+ * then lies {@code rate * daysOld / 2} degrees beyond its average longitude, which gives the
+ * rate as {@code 2 * (longitude - avgLongitude) / daysOld}. Every time step moves the
+ * longitude by {@code rate * step}, folds the traversed path into the running average and
+ * adds the step to the age. Positions are tracked unwrapped so the average is not disturbed
+ * by the date line; the accessors wrap longitudes into {@code [-180, 180)}.</p>
+ *
+ * <p>State is held in primitive arrays, one entry per propagated row, and a step updates
+ * fixed-size batches of entries in parallel. The source catalog and its objects are never
+ * modified.</p>
+ */
+public class DriftPropagator {
+    private static final int BATCH_SIZE = 1 << 13;
+
+    private final ColumnarCatalog catalog;
+    private final int[] rows;
+    private final double[] longitudes;
+    private final double[] avgLongitudes;
+    private final double[] rates;
+    private final double[] ages;
+    private double elapsedDays;
+
+    /**
+     * Constructs a propagator over every row of a catalog, starting from the catalog state.
+     *
+     * @param catalog The catalog to propagate.
+     */
+    public DriftPropagator(ColumnarCatalog catalog) {
+        this(catalog, IntStream.range(0, catalog.size()).toArray());
+    }
+
+    /**
+     * Constructs a propagator over some rows of a catalog, starting from the catalog state.
+     *
+     * @param catalog The catalog to propagate.
+     * @param rows    The catalog rows to propagate, e.g. from a {@link BitmapIndex} lookup.
+     */
+    public DriftPropagator(ColumnarCatalog catalog, int[] rows) {
+        this.catalog = catalog;
+        this.rows = rows.clone();
+        int size = rows.length;
+        longitudes = new double[size];
+        avgLongitudes = new double[size];
+        rates = new double[size];
+        ages = new double[size];
+        for (int i = 0; i < size; i++) {
+            int row = rows[i];
+            longitudes[i] = catalog.longitude(row);
+            avgLongitudes[i] = catalog.avgLongitude(row);
+            ages[i] = Math.max(0, catalog.daysOld(row));
+            rates[i] = ages[i] > 0 ? 2 * (longitudes[i] - avgLongitudes[i]) / ages[i] : 0;
+        }
+    }
+
+    /**
+     * Advances every object by one time step.
+     *
+     * @param days The step length in days; must not be negative.
+     * @throws IllegalArgumentException If {@code days} is negative.
+     */
+    public void step(double days) {
+        if (days < 0) throw new IllegalArgumentException("Time step must not be negative: " + days);
+        if (days == 0) return;
+        int batches = (rows.length + BATCH_SIZE - 1) / BATCH_SIZE;
+        IntStream.range(0, batches).parallel().forEach(b -> {
+            for (int i = b * BATCH_SIZE, end = Math.min(rows.length, i + BATCH_SIZE); i < end; i++) {
+                double start = longitudes[i];
+                double next = start + rates[i] * days;
+                double age = ages[i];
+                // The path is linear within the step, so its mean is the midpoint.
+                avgLongitudes[i] = (avgLongitudes[i] * age + (start + next) / 2 * days) / (age + days);
+                longitudes[i] = next;
+                ages[i] = age + days;
+            }
+        });
+        elapsedDays += days;
+    }
+
+    /**
+     * Advances every object to a horizon in equal time steps; the last step is shortened to
+     * end exactly on the horizon.
+     *
+     * @param horizonDays The number of days to advance.
+     * @param stepDays    The step length in days.
+     * @throws IllegalArgumentException If the horizon is negative or the step is not positive.
+     */
+    public void propagate(double horizonDays, double stepDays) {
+        if (horizonDays < 0) throw new IllegalArgumentException("Horizon must not be negative: " + horizonDays);
+        if (!(stepDays > 0)) throw new IllegalArgumentException("Time step must be positive: " + stepDays);
+        double remaining = horizonDays;
+        while (remaining > 0) {
+            double days = Math.min(stepDays, remaining);
+            step(days);
+            remaining -= days;
+        }
+    }
+
+    /**
+     * Gets the number of days propagated so far.
+     *
+     * @return The elapsed days.
+     */
+    public double elapsedDays() { return elapsedDays; }
+
+    /**
+     * Gets the number of propagated objects.
+     *
+     * @return The propagator size.
+     */
+    public int size() { return rows.length; }
+
+    /**
+     * Gets the catalog row of a propagated object.
+     *
+     * @param i The propagator index.
+     * @return The catalog row.
+     */
+    public int row(int i) { return rows[i]; }
+
+    /**
+     * Gets a propagated object.
+     *
+     * @param i The propagator index.
+     * @return The catalog object, holding its original attributes.
+     */
+    public SpaceObject object(int i) { return catalog.object(rows[i]); }
+
+    /**
+     * Gets the forecast longitude of an object.
+     *
+     * @param i The propagator index.
+     * @return The longitude, wrapped into {@code [-180, 180)}.
+     */
+    public double longitude(int i) { return wrap(longitudes[i]); }
+
+    /**
+     * Gets the forecast average longitude of an object.
+     *
+     * @param i The propagator index.
+     * @return The average longitude, wrapped into {@code [-180, 180)}.
+     */
+    public double avgLongitude(int i) { return wrap(avgLongitudes[i]); }
+
+    /**
+     * Gets the forecast longitude drift of an object, measured along its path.
+     *
+     * @param i The propagator index.
+     * @return The absolute distance from the average longitude in degrees.
+     */
+    public double drift(int i) { return Math.abs(longitudes[i] - avgLongitudes[i]); }
+
+    /**
+     * Gets the assumed drift rate of an object.
+     *
+     * @param i The propagator index.
+     * @return The longitude change in degrees per day.
+     */
+    public double rate(int i) { return rates[i]; }
+
+    /**
+     * Gets the forecast age of an object.
+     *
+     * @param i The propagator index.
+     * @return The age in whole days.
+     */
+    public int daysOld(int i) { return (int) ages[i]; }
+
+    /**
+     * Counts the objects whose forecast drift exceeds a threshold.
+     *
+     * @param threshold The exclusive drift threshold in degrees.
+     * @return The number of objects above the threshold.
+     */
+    public int countDriftAbove(double threshold) {
+        return (int) IntStream.range(0, rows.length).parallel().filter(i -> drift(i) > threshold).count();
+    }
+
+    /**
+     * Finds the objects with the largest forecast drift.
+     *
+     * @param k The number of objects to return.
+     * @return At most {@code k} propagator indexes, largest drift first.
+     */
+    public int[] topByDrift(int k) {
+        return TopK.select(rows.length, k, this::drift);
+    }
+
+    /**
+     * Gets the objects at some propagator indexes.
+     *
+     * @param indexes The propagator indexes.
+     * @return The catalog objects, in the given order.
+     */
+    public List<SpaceObject> objects(int[] indexes) {
+        List<SpaceObject> result = new ArrayList<>(indexes.length);
+        for (int i : indexes) result.add(object(i));
+        return result;
+    }
+
+    private static double wrap(double longitude) {
+        double wrapped = (longitude + 180) % 360;
+        return (wrapped < 0 ? wrapped + 360 : wrapped) - 180;
+    }
+}
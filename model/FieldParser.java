@@ -0,0 +1,199 @@
+package model;
+
+/**
+ * The {@code FieldParser} class parses numeric catalog fields without exceptions or
+ * intermediate strings. Values are read directly from a character range (for example the
+ * current record of a {@link CsvReader}, see {@link CsvReader#chars()}), surrounding
+ * whitespace is skipped in place, and empty or malformed input yields the caller's default
+ * value. It is shared by every catalog loader, where sparse columns make empty fields the
+ * common case.
+ *
+ * <p>Decimal values with at most 15 significant digits and a small exponent, which covers
+ * the catalog's coordinates, are converted exactly with a single multiplication or division.
+ * Longer values fall back to {@link Double#parseDouble(String)} after their syntax has been
+ * validated, so no exception is ever thrown.</p>
+ */
+public final class FieldParser {
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private FieldParser() {
+    }
+
+    /**
+     * Parses an {@code int} from a string.
+     *
+     * @param s            The text to parse; may be {@code null}.
+     * @param defaultValue The value returned when {@code s} is empty or not a valid {@code int}.
+     * @return The parsed value, or {@code defaultValue}.
+     */
+    public static int parseInt(CharSequence s, int defaultValue) {
+        return s == null ? defaultValue : parseInt(s, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * Parses an {@code int} from a range of a character sequence.
+     *
+     * @param s            The text to parse.
+     * @param start        The inclusive start index.
+     * @param end          The exclusive end index.
+     * @param defaultValue The value returned when the range is empty or not a valid {@code int}.
+     * @return The parsed value, or {@code defaultValue}.
+     */
+    public static int parseInt(CharSequence s, int start, int end, int defaultValue) {
+        long value = parseLong(s, start, end, Long.MIN_VALUE);
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? defaultValue : (int) value;
+    }
+
+    /**
+     * Parses a {@code long} from a string.
+     *
+     * @param s            The text to parse; may be {@code null}.
+     * @param defaultValue The value returned when {@code s} is empty or not a valid {@code long}.
+     * @return The parsed value, or {@code defaultValue}.
+     */
+    public static long parseLong(CharSequence s, long defaultValue) {
+        return s == null ? defaultValue : parseLong(s, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * Parses a {@code long} from a range of a character sequence.
+     *
+     * @param s            The text to parse.
+     * @param start        The inclusive start index.
+     * @param end          The exclusive end index.
+     * @param defaultValue The value returned when the range is empty or not a valid {@code long}.
+     * @return The parsed value, or {@code defaultValue}.
+     */
+    public static long parseLong(CharSequence s, int start, int end, long defaultValue) {
+        while (start < end && s.charAt(start) <= ' ') start++;
+        while (end > start && s.charAt(end - 1) <= ' ') end--;
+        if (start == end) return defaultValue;
+
+        boolean negative = false;
+        char first = s.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++start == end) return defaultValue;
+        }
+        // Accumulate negatively so Long.MIN_VALUE is representable.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < limit / 10) return defaultValue;
+            result *= 10;
+            if (result < limit + digit) return defaultValue;
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses a {@code boolean} from a range of a character sequence. {@code true} and
+     * {@code false} are accepted in any case, as are {@code 1} and {@code 0}.
+     *
+     * @param s            The text to parse.
+     * @param start        The inclusive start index.
+     * @param end          The exclusive end index.
+     * @param defaultValue The value returned when the range is empty or not a valid {@code boolean}.
+     * @return The parsed value, or {@code defaultValue}.
+     */
+    public static boolean parseBoolean(CharSequence s, int start, int end, boolean defaultValue) {
+        while (start < end && s.charAt(start) <= ' ') start++;
+        while (end > start && s.charAt(end - 1) <= ' ') end--;
+        if (matches(s, start, end, "true") || matches(s, start, end, "1")) return true;
+        if (matches(s, start, end, "false") || matches(s, start, end, "0")) return false;
+        return defaultValue;
+    }
+
+    private static boolean matches(CharSequence s, int start, int end, String word) {
+        if (end - start != word.length()) return false;
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase(s.charAt(start + i)) != word.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Parses a {@code double} from a string.
+     *
+     * @param s            The text to parse; may be {@code null}.
+     * @param defaultValue The value returned when {@code s} is empty or not a valid decimal number.
+     * @return The parsed value, or {@code defaultValue}.
+     */
+    public static double parseDouble(CharSequence s, double defaultValue) {
+        return s == null ? defaultValue : parseDouble(s, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * Parses a {@code double} from a range of a character sequence.
+     *
+     * @param s            The text to parse.
+     * @param start        The inclusive start index.
+     * @param end          The exclusive end index.
+     * @param defaultValue The value returned when the range is empty or not a valid decimal number.
+     * @return The parsed value, or {@code defaultValue}.
+     */
+    public static double parseDouble(CharSequence s, int start, int end, double defaultValue) {
+        while (start < end && s.charAt(start) <= ' ') start++;
+        while (end > start && s.charAt(end - 1) <= ' ') end--;
+        if (start == end) return defaultValue;
+
+        int i = start;
+        boolean negative = false;
+        if (s.charAt(i) == '-' || s.charAt(i) == '+') {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (mantissa == 0 && c == '0') {
+                    if (seenPoint) scale--;
+                } else if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                    if (seenPoint) scale--;
+                } else {
+                    digits++;
+                    if (!seenPoint) scale++;
+                }
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (!seenDigit) return defaultValue;
+        if (i < end) {
+            char c = s.charAt(i);
+            if (c != 'e' && c != 'E') return defaultValue;
+            // The exponent is an optional sign and at least one digit, with no whitespace.
+            boolean negativeExponent = false;
+            if (++i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) negativeExponent = s.charAt(i++) == '-';
+            if (i == end) return defaultValue;
+            long exponent = 0;
+            for (; i < end; i++) {
+                c = s.charAt(i);
+                if (c < '0' || c > '9') return defaultValue;
+                if (exponent < 1_000_000) exponent = exponent * 10 + (c - '0');
+            }
+            scale = (int) Math.max(-100_000, Math.min(100_000, scale + (negativeExponent ? -exponent : exponent)));
+        }
+        if (digits <= MAX_EXACT_DIGITS && Math.abs(scale) <= 22) {
+            double value = scale >= 0 ? mantissa * POWERS_OF_TEN[scale] : mantissa / POWERS_OF_TEN[-scale];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(s.subSequence(start, end).toString());
+    }
+}
@@ -0,0 +1,174 @@
+package model;
+
+/**
+ * The {@code GeoCell} class packs geographic positions into numeric Z-order cells. Latitude
+ * and longitude are each quantized to {@value #LEVELS} bits and their bits are interleaved,
+ * longitude first as in a geohash, into a non-negative {@code long}. Cells that share their
+ * leading {@code 2 * level} bits lie in the same cell at that level, and sorting cells keeps
+ * nearby positions close together, so spatial queries become binary searches over a sorted
+ * array (see {@link GeoIndex}).
+ *
+ * <p>The catalog's geohash column holds a {@code "lat,lon"} pair; standard base32 geohash
+ * strings are accepted as well. At the finest level a cell is about 1.7e-7 degrees of
+ * longitude wide, well below the precision of the source data.</p>
+ */
+public final class GeoCell {
+    /** The cell of a position that is missing or cannot be decoded. */
+    public static final long NO_CELL = -1L;
+
+    /** The number of subdivision levels, and of bits per coordinate. */
+    public static final int LEVELS = 31;
+
+    private static final long CELLS_PER_AXIS = 1L << LEVELS;
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private GeoCell() {
+    }
+
+    /**
+     * Encodes a position into its cell.
+     *
+     * @param latitude  The latitude in degrees, from -90 to 90.
+     * @param longitude The longitude in degrees, from -180 to 180.
+     * @return The cell, or {@link #NO_CELL} if either coordinate is out of range.
+     */
+    public static long encode(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) return NO_CELL;
+        return interleave(quantize(longitude, -180, 360), quantize(latitude, -90, 180));
+    }
+
+    /**
+     * Decodes the geohash column of a catalog row.
+     *
+     * @param geohash A {@code "lat,lon"} pair or a base32 geohash; may be {@code null}.
+     * @return The cell, or {@link #NO_CELL} if the value is empty or malformed.
+     */
+    public static long parse(CharSequence geohash) {
+        if (geohash == null) return NO_CELL;
+        int length = geohash.length();
+        for (int i = 0; i < length; i++) {
+            if (geohash.charAt(i) == ',') {
+                double latitude = FieldParser.parseDouble(geohash, 0, i, Double.NaN);
+                double longitude = FieldParser.parseDouble(geohash, i + 1, length, Double.NaN);
+                return encode(latitude, longitude);
+            }
+        }
+        return parseBase32(geohash);
+    }
+
+    /**
+     * Decodes a base32 geohash to the cell at the center of its area.
+     */
+    private static long parseBase32(CharSequence geohash) {
+        int length = geohash.length();
+        if (length == 0 || length > 12) return NO_CELL;
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        boolean lonBit = true;
+        for (int i = 0; i < length; i++) {
+            int value = BASE32.indexOf(Character.toLowerCase(geohash.charAt(i)));
+            if (value < 0) return NO_CELL;
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean set = (value >> bit & 1) == 1;
+                if (lonBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (set) minLon = mid; else maxLon = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) minLat = mid; else maxLat = mid;
+                }
+                lonBit = !lonBit;
+            }
+        }
+        return encode((minLat + maxLat) / 2, (minLon + maxLon) / 2);
+    }
+
+    /**
+     * Gets the latitude at the center of a cell.
+     *
+     * @param cell A cell other than {@link #NO_CELL}.
+     * @return The latitude in degrees.
+     */
+    public static double latitude(long cell) {
+        return (y(cell) + 0.5) / CELLS_PER_AXIS * 180 - 90;
+    }
+
+    /**
+     * Gets the longitude at the center of a cell.
+     *
+     * @param cell A cell other than {@link #NO_CELL}.
+     * @return The longitude in degrees.
+     */
+    public static double longitude(long cell) {
+        return (x(cell) + 0.5) / CELLS_PER_AXIS * 360 - 180;
+    }
+
+    /**
+     * Gets the first cell inside the enclosing cell at the given level.
+     *
+     * @param cell  A cell other than {@link #NO_CELL}.
+     * @param level The level, from {@code 0} (the whole globe) to {@link #LEVELS}.
+     * @return The smallest cell sharing the leading {@code 2 * level} bits of {@code cell}.
+     */
+    public static long rangeStart(long cell, int level) {
+        int shift = 2 * (LEVELS - level);
+        return cell >>> shift << shift;
+    }
+
+    /**
+     * Gets the last cell inside the enclosing cell at the given level.
+     *
+     * @param cell  A cell other than {@link #NO_CELL}.
+     * @param level The level, from {@code 0} (the whole globe) to {@link #LEVELS}.
+     * @return The largest cell sharing the leading {@code 2 * level} bits of {@code cell}.
+     */
+    public static long rangeEnd(long cell, int level) {
+        return rangeStart(cell, level) | ((1L << 2 * (LEVELS - level)) - 1);
+    }
+
+    /**
+     * Quantizes a coordinate to a cell index along its axis.
+     */
+    static int quantize(double value, double min, double span) {
+        long index = (long) Math.floor((value - min) / span * CELLS_PER_AXIS);
+        return (int) Math.max(0, Math.min(CELLS_PER_AXIS - 1, index));
+    }
+
+    /**
+     * Interleaves longitude and latitude indexes into a cell.
+     */
+    static long interleave(int x, int y) {
+        return spread(x) << 1 | spread(y);
+    }
+
+    /**
+     * Gets the longitude index of a cell.
+     */
+    static int x(long cell) {
+        return compact(cell >>> 1);
+    }
+
+    /**
+     * Gets the latitude index of a cell.
+     */
+    static int y(long cell) {
+        return compact(cell);
+    }
+
+    private static long spread(int value) {
+        long v = value & 0xFFFFFFFFL;
+        v = (v | v << 16) & 0x0000FFFF0000FFFFL;
+        v = (v | v << 8) & 0x00FF00FF00FF00FFL;
+        v = (v | v << 4) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | v << 2) & 0x3333333333333333L;
+        return (v | v << 1) & 0x5555555555555555L;
+    }
+
+    private static int compact(long value) {
+        long v = value & 0x5555555555555555L;
+        v = (v | v >>> 1) & 0x3333333333333333L;
+        v = (v | v >>> 2) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | v >>> 4) & 0x00FF00FF00FF00FFL;
+        v = (v | v >>> 8) & 0x0000FFFF0000FFFFL;
+        return (int) (v | v >>> 16);
+    }
+}
@@ -0,0 +1,210 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code GeoIndex} class is a Z-order index over the decoded positions of a
+ * {@link ColumnarCatalog}. The {@link GeoCell} of every positioned row is kept as a
+ * {@link SortedRows} key next to the row, so objects in the same cell occupy one contiguous run.
+ *
+ * <p>A "same cell" lookup is a single binary-searched range. A bounding-box lookup walks the
+ * cell quadtree from the root, taking whole cells that lie inside the box as one range and
+ * descending only into cells on the box border that still hold many objects, so its cost
+ * depends on the border and the result size rather than on the catalog size. Rows without
+ * a decodable position are not indexed.</p>
+ */
+public class GeoIndex {
+    private static final int LEAF_SIZE = 32;
+
+    private final ColumnarCatalog catalog;
+    private final SortedRows sorted;
+
+    /**
+     * Builds a geographic index over the given catalog.
+     *
+     * @param catalog The catalog to index.
+     */
+    GeoIndex(ColumnarCatalog catalog) {
+        this.catalog = catalog;
+        int size = 0;
+        for (int i = 0; i < catalog.size(); i++) {
+            if (catalog.geoCell(i) != GeoCell.NO_CELL) size++;
+        }
+        long[] cells = new long[size];
+        int[] rows = new int[size];
+        int n = 0;
+        for (int i = 0; i < catalog.size(); i++) {
+            long cell = catalog.geoCell(i);
+            if (cell != GeoCell.NO_CELL) {
+                cells[n] = cell;
+                rows[n++] = i;
+            }
+        }
+        sorted = new SortedRows(cells, rows);
+    }
+
+    /**
+     * Gets the catalog this index was built over.
+     *
+     * @return The indexed catalog.
+     */
+    ColumnarCatalog catalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the number of indexed objects, i.e. those with a decodable position.
+     *
+     * @return The index size.
+     */
+    public int size() {
+        return sorted.size();
+    }
+
+    /**
+     * Finds the catalog rows whose position lies in the given bounding box. Bounds are
+     * compared at cell resolution.
+     *
+     * @param minLatitude  The inclusive southern bound.
+     * @param minLongitude The inclusive western bound.
+     * @param maxLatitude  The inclusive northern bound.
+     * @param maxLongitude The inclusive eastern bound.
+     * @return The matching rows of the catalog, in Z order.
+     */
+    public int[] rows(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        Scan scan = new Scan(true);
+        scan(scan, minLatitude, minLongitude, maxLatitude, maxLongitude);
+        return Arrays.copyOf(scan.rows, scan.count);
+    }
+
+    /**
+     * Counts the objects whose position lies in the given bounding box.
+     *
+     * @param minLatitude  The inclusive southern bound.
+     * @param minLongitude The inclusive western bound.
+     * @param maxLatitude  The inclusive northern bound.
+     * @param maxLongitude The inclusive eastern bound.
+     * @return The number of objects in the box.
+     */
+    public int count(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        Scan scan = new Scan(false);
+        scan(scan, minLatitude, minLongitude, maxLatitude, maxLongitude);
+        return scan.count;
+    }
+
+    /**
+     * Finds the objects whose position lies in the given bounding box.
+     *
+     * @param minLatitude  The inclusive southern bound.
+     * @param minLongitude The inclusive western bound.
+     * @param maxLatitude  The inclusive northern bound.
+     * @param maxLongitude The inclusive eastern bound.
+     * @return The matching objects, in Z order.
+     */
+    public List<SpaceObject> objects(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        return objects(rows(minLatitude, minLongitude, maxLatitude, maxLongitude));
+    }
+
+    /**
+     * Finds the catalog rows that fall in the same cell as the given cell at a level.
+     *
+     * @param cell  The reference cell.
+     * @param level The cell level, from {@code 0} (the whole globe) to {@link GeoCell#LEVELS}.
+     * @return The matching rows of the catalog, in Z order.
+     */
+    public int[] rowsInCell(long cell, int level) {
+        if (cell == GeoCell.NO_CELL) return new int[0];
+        int from = sorted.lowerBound(GeoCell.rangeStart(cell, level));
+        int to = sorted.upperBound(GeoCell.rangeEnd(cell, level));
+        return Arrays.copyOfRange(sorted.rows, from, Math.max(from, to));
+    }
+
+    /**
+     * Finds the objects that fall in the same cell as the given cell at a level.
+     *
+     * @param cell  The reference cell.
+     * @param level The cell level, from {@code 0} (the whole globe) to {@link GeoCell#LEVELS}.
+     * @return The matching objects, in Z order.
+     */
+    public List<SpaceObject> objectsInCell(long cell, int level) {
+        return objects(rowsInCell(cell, level));
+    }
+
+    private List<SpaceObject> objects(int[] matches) {
+        List<SpaceObject> result = new ArrayList<>(matches.length);
+        for (int row : matches) result.add(catalog.object(row));
+        return result;
+    }
+
+    private void scan(Scan scan, double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        if (sorted.size() == 0 || !(minLatitude <= maxLatitude && minLongitude <= maxLongitude)) return;
+        scan.x0 = GeoCell.quantize(minLongitude, -180, 360);
+        scan.x1 = GeoCell.quantize(maxLongitude, -180, 360);
+        scan.y0 = GeoCell.quantize(minLatitude, -90, 180);
+        scan.y1 = GeoCell.quantize(maxLatitude, -90, 180);
+        visit(scan, 0, 0, 0);
+    }
+
+    /**
+     * Visits the quadtree cell at {@code level} whose axis indexes at that level are
+     * {@code px} and {@code py}.
+     */
+    private void visit(Scan scan, int level, long px, long py) {
+        int shift = GeoCell.LEVELS - level;
+        long nodeX0 = px << shift, nodeX1 = nodeX0 + (1L << shift) - 1;
+        long nodeY0 = py << shift, nodeY1 = nodeY0 + (1L << shift) - 1;
+        if (nodeX1 < scan.x0 || nodeX0 > scan.x1 || nodeY1 < scan.y0 || nodeY0 > scan.y1) return;
+
+        long start = GeoCell.interleave((int) nodeX0, (int) nodeY0);
+        int from = sorted.lowerBound(start);
+        int to = sorted.upperBound(start | ((1L << 2 * shift) - 1));
+        if (from >= to) return;
+
+        if (nodeX0 >= scan.x0 && nodeX1 <= scan.x1 && nodeY0 >= scan.y0 && nodeY1 <= scan.y1) {
+            scan.addAll(sorted.rows, from, to);
+        } else if (to - from <= LEAF_SIZE || level == GeoCell.LEVELS) {
+            for (int i = from; i < to; i++) {
+                int x = GeoCell.x(sorted.keys[i]), y = GeoCell.y(sorted.keys[i]);
+                if (x >= scan.x0 && x <= scan.x1 && y >= scan.y0 && y <= scan.y1) scan.add(sorted.rows[i]);
+            }
+        } else {
+            // Children in Z order: the longitude bit is the more significant one.
+            visit(scan, level + 1, px << 1, py << 1);
+            visit(scan, level + 1, px << 1, py << 1 | 1);
+            visit(scan, level + 1, px << 1 | 1, py << 1);
+            visit(scan, level + 1, px << 1 | 1, py << 1 | 1);
+        }
+    }
+
+    /**
+     * The query box in cell coordinates and the rows or count found so far.
+     */
+    private static class Scan {
+        final boolean collect;
+        long x0, x1, y0, y1;
+        int[] rows = new int[16];
+        int count;
+
+        Scan(boolean collect) {
+            this.collect = collect;
+        }
+
+        void add(int row) {
+            if (collect) {
+                if (count == rows.length) rows = Arrays.copyOf(rows, count * 2);
+                rows[count] = row;
+            }
+            count++;
+        }
+
+        void addAll(int[] source, int from, int to) {
+            if (collect) {
+                if (count + to - from > rows.length) rows = Arrays.copyOf(rows, Math.max(rows.length * 2, count + to - from));
+                System.arraycopy(source, from, rows, count, to - from);
+            }
+            count += to - from;
+        }
+    }
+}
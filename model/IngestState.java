@@ -0,0 +1,89 @@
+package model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * The {@code IngestState} class remembers how far a CSV file has been ingested, so an
+ * incremental refresh can tell whether the file only had rows appended since then.
+ * It records the file's length, its header mapping and a checksum of the bytes just
+ * before the ingested end.
+ */
+class IngestState {
+    private static final int TAIL_BYTES = 4096;
+
+    private final String filename;
+    private final Map<String, Integer> header;
+    private final long length;
+    private final long tailChecksum;
+
+    private IngestState(String filename, Map<String, Integer> header, long length, long tailChecksum) {
+        this.filename = filename;
+        this.header = header;
+        this.length = length;
+        this.tailChecksum = tailChecksum;
+    }
+
+    /**
+     * Records the current end of a file that has just been ingested completely.
+     *
+     * @param filename The ingested CSV file.
+     * @param header   The header mapping used to read it.
+     * @return The ingest state, or {@code null} if the file cannot be read.
+     */
+    static IngestState capture(String filename, Map<String, Integer> header) {
+        try {
+            long length = new File(filename).length();
+            return new IngestState(filename, header, length, tailChecksum(filename, length));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the given file is the ingested file with new rows appended: it must
+     * have grown, the ingested part must end on a line break, and the bytes before the
+     * ingested end must be unchanged.
+     *
+     * @param filename The CSV file to refresh from.
+     * @return {@code true} if only the bytes past {@link #length()} need to be read.
+     */
+    boolean canTail(String filename) {
+        if (!this.filename.equals(filename) || new File(filename).length() <= length) return false;
+        try (RandomAccessFile file = new RandomAccessFile(filename, "r")) {
+            file.seek(length - 1);
+            return file.read() == '\n' && tailChecksum(filename, length) == tailChecksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the header mapping used when the file was ingested.
+     *
+     * @return The header mapping.
+     */
+    Map<String, Integer> header() { return header; }
+
+    /**
+     * Gets the number of bytes that have been ingested.
+     *
+     * @return The ingested length.
+     */
+    long length() { return length; }
+
+    private static long tailChecksum(String filename, long length) throws IOException {
+        int count = (int) Math.min(TAIL_BYTES, length);
+        byte[] tail = new byte[count];
+        try (RandomAccessFile file = new RandomAccessFile(filename, "r")) {
+            file.seek(length - count);
+            file.readFully(tail);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(tail);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,100 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code LongitudeIndex} class is a sorted index over the longitudes of a
+ * {@link ColumnarCatalog}. Longitudes are kept as {@link SortedRows} keys in ascending order
+ * next to the catalog row of each entry, so range lookups use binary search: counting the
+ * objects in a band takes O(log n) and listing them O(log n + k). A range whose lower bound
+ * exceeds its upper bound matches nothing.
+ */
+public class LongitudeIndex {
+    private final ColumnarCatalog catalog;
+    private final SortedRows sorted;
+
+    /**
+     * Builds a longitude index over the given catalog.
+     *
+     * @param catalog The catalog to index.
+     */
+    LongitudeIndex(ColumnarCatalog catalog) {
+        this.catalog = catalog;
+        int size = catalog.size();
+        long[] keys = new long[size];
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = SortedRows.key(catalog.longitude(i));
+            rows[i] = i;
+        }
+        sorted = new SortedRows(keys, rows);
+    }
+
+    /**
+     * Gets the catalog this index was built over.
+     *
+     * @return The indexed catalog.
+     */
+    ColumnarCatalog catalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the number of indexed objects.
+     *
+     * @return The index size.
+     */
+    public int size() {
+        return sorted.size();
+    }
+
+    /**
+     * Counts the objects whose longitude lies in the given range.
+     *
+     * @param minLongitude The inclusive lower bound.
+     * @param maxLongitude The inclusive upper bound.
+     * @return The number of objects in range.
+     */
+    public int count(double minLongitude, double maxLongitude) {
+        if (!(minLongitude <= maxLongitude)) return 0;
+        return upperBound(maxLongitude) - lowerBound(minLongitude);
+    }
+
+    /**
+     * Finds the catalog rows whose longitude lies in the given range.
+     *
+     * @param minLongitude The inclusive lower bound.
+     * @param maxLongitude The inclusive upper bound.
+     * @return The matching rows of the catalog, in ascending order of longitude.
+     */
+    public int[] rows(double minLongitude, double maxLongitude) {
+        if (!(minLongitude <= maxLongitude)) return new int[0];
+        return Arrays.copyOfRange(sorted.rows, lowerBound(minLongitude), upperBound(maxLongitude));
+    }
+
+    /**
+     * Finds the objects whose longitude lies in the given range.
+     *
+     * @param minLongitude The inclusive lower bound.
+     * @param maxLongitude The inclusive upper bound.
+     * @return The matching objects, in ascending order of longitude.
+     */
+    public List<SpaceObject> objects(double minLongitude, double maxLongitude) {
+        if (!(minLongitude <= maxLongitude)) return new ArrayList<>();
+        int from = lowerBound(minLongitude);
+        int to = upperBound(maxLongitude);
+        List<SpaceObject> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) result.add(catalog.object(sorted.rows[i]));
+        return result;
+    }
+
+    private int lowerBound(double longitude) {
+        return sorted.lowerBound(SortedRows.key(longitude));
+    }
+
+    private int upperBound(double longitude) {
+        return sorted.upperBound(SortedRows.key(longitude));
+    }
+}
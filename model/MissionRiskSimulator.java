@@ -0,0 +1,234 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code MissionRiskSimulator} class estimates the probability that a mission collides
+ * with tracked debris, by Monte Carlo sampling of mission trajectories.
+ *
+ * <p>The debris of one orbit type is counted into a one-degree latitude/longitude grid from
+ * the decoded positions of a {@link ColumnarCatalog}. Every trial flies a circular orbit with
+ * a random inclination, ascending node and nodal drift, and samples its ground track once per
+ * mission day at a random point of the orbit. On each day the spacecraft independently
+ * survives every piece of debris in its grid cell with probability
+ * {@code 1 - encounterProbability}; a trial counts as a collision on its first lost draw.</p>
+ *
+ * <p>Trials run in parallel batches. Each batch draws from its own {@link SplittableRandom},
+ * split from the seed in batch order before any batch runs, so a run is reproducible from its
+ * seed whatever the number of threads.</p>
+ */
+public class MissionRiskSimulator {
+    private static final int LATITUDE_CELLS = 180;
+    private static final int LONGITUDE_CELLS = 360;
+    private static final int BATCH_SIZE = 10_000;
+    private static final double Z_95 = 1.959963984540054;
+
+    private final double[] dailyHit = new double[LATITUDE_CELLS * LONGITUDE_CELLS];
+    private final int[] density = new int[LATITUDE_CELLS * LONGITUDE_CELLS];
+    private final int population;
+
+    /**
+     * Builds the debris density grid for a mission.
+     *
+     * @param catalog              The catalog to take the debris from.
+     * @param orbitType            The mission's orbit type, e.g. "LEO"; matched
+     *                             case-insensitively, or {@code null} for debris in any orbit.
+     * @param encounterProbability The probability of colliding with one piece of debris that
+     *                             shares the spacecraft's grid cell for a day.
+     * @throws IllegalArgumentException If the probability is not in {@code [0, 1]}.
+     */
+    public MissionRiskSimulator(ColumnarCatalog catalog, String orbitType, double encounterProbability) {
+        if (!(encounterProbability >= 0 && encounterProbability <= 1)) {
+            throw new IllegalArgumentException("Encounter probability must be in [0, 1]: " + encounterProbability);
+        }
+        int debris = CatalogDictionaries.OBJECT_TYPES.findIgnoreCase("DEBRIS");
+        int orbit = orbitType == null ? -1 : CatalogDictionaries.ORBIT_TYPES.findIgnoreCase(orbitType);
+        int counted = 0;
+        if (debris >= 0 && (orbitType == null || orbit >= 0)) {
+            for (int row = 0; row < catalog.size(); row++) {
+                long cell = catalog.geoCell(row);
+                if (cell == GeoCell.NO_CELL
+                        || CatalogDictionaries.OBJECT_TYPES.foldedCode(catalog.objectTypeCode(row)) != debris
+                        || (orbitType != null && CatalogDictionaries.ORBIT_TYPES.foldedCode(catalog.orbitTypeCode(row)) != orbit)) {
+                    continue;
+                }
+                density[cell(GeoCell.latitude(cell), GeoCell.longitude(cell))]++;
+                counted++;
+            }
+        }
+        population = counted;
+        for (int i = 0; i < density.length; i++) {
+            dailyHit[i] = density[i] == 0 ? 0 : 1 - Math.pow(1 - encounterProbability, density[i]);
+        }
+    }
+
+    /**
+     * Gets the number of positioned debris objects the mission is flown against.
+     *
+     * @return The debris population.
+     */
+    public int population() {
+        return population;
+    }
+
+    /**
+     * Simulates missions.
+     *
+     * @param missionDays The mission duration in days.
+     * @param trials      The number of missions to simulate.
+     * @param seed        The random seed; equal seeds give equal estimates.
+     * @return The collision estimate.
+     * @throws IllegalArgumentException If the duration or number of trials is negative.
+     */
+    public RiskEstimate simulate(int missionDays, long trials, long seed) {
+        if (missionDays < 0) throw new IllegalArgumentException("Mission duration must not be negative: " + missionDays);
+        if (trials < 0) throw new IllegalArgumentException("Number of trials must not be negative: " + trials);
+        int batches = (int) ((trials + BATCH_SIZE - 1) / BATCH_SIZE);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[batches];
+        for (int b = 0; b < batches; b++) streams[b] = root.split();
+
+        long[] hits = new long[batches];
+        double[] encounters = new double[batches];
+        IntStream.range(0, batches).parallel().forEach(b -> {
+            SplittableRandom random = streams[b];
+            long batchTrials = Math.min(BATCH_SIZE, trials - (long) b * BATCH_SIZE);
+            long batchHits = 0;
+            double batchEncounters = 0;
+            for (long t = 0; t < batchTrials; t++) {
+                double inclination = Math.toRadians(random.nextDouble(0, 180));
+                double sinInclination = Math.sin(inclination), cosInclination = Math.cos(inclination);
+                double node = random.nextDouble(-180, 180);
+                double nodalDrift = random.nextDouble(-5, 5);
+                boolean hit = false;
+                for (int day = 0; day < missionDays && !hit; day++) {
+                    double argument = random.nextDouble(0, 2 * Math.PI);
+                    double sinArgument = Math.sin(argument), cosArgument = Math.cos(argument);
+                    double z = sinInclination * sinArgument;
+                    double latitude = atan2Degrees(z, Math.sqrt(Math.max(0, 1 - z * z)));
+                    double longitude = node + nodalDrift * day + atan2Degrees(cosInclination * sinArgument, cosArgument);
+                    int cell = cell(latitude, longitude);
+                    batchEncounters += density[cell];
+                    hit = dailyHit[cell] > 0 && random.nextDouble() < dailyHit[cell];
+                }
+                if (hit) batchHits++;
+            }
+            hits[b] = batchHits;
+            encounters[b] = batchEncounters;
+        });
+
+        long collisions = 0;
+        double totalEncounters = 0;
+        for (int b = 0; b < batches; b++) {
+            collisions += hits[b];
+            totalEncounters += encounters[b];
+        }
+        return new RiskEstimate(trials, collisions, trials == 0 ? 0 : totalEncounters / trials);
+    }
+
+    /**
+     * Approximates {@code Math.toDegrees(Math.atan2(y, x))} to within about 0.001 degrees,
+     * far below the grid resolution and several times faster than the exact function.
+     */
+    private static double atan2Degrees(double y, double x) {
+        double ax = Math.abs(x), ay = Math.abs(y);
+        if (ax == 0 && ay == 0) return 0;
+        double t = Math.min(ax, ay) / Math.max(ax, ay), t2 = t * t;
+        double angle = t * (0.99997726 + t2 * (-0.33262347 + t2 * (0.19354346
+                + t2 * (-0.11643287 + t2 * (0.05265332 - t2 * 0.01172120)))));
+        if (ay > ax) angle = Math.PI / 2 - angle;
+        if (x < 0) angle = Math.PI - angle;
+        return Math.toDegrees(y < 0 ? -angle : angle);
+    }
+
+    private static int cell(double latitude, double longitude) {
+        int y = Math.min(LATITUDE_CELLS - 1, Math.max(0, (int) Math.floor(latitude + 90)));
+        int x = Math.floorMod((int) Math.floor(longitude + 180), LONGITUDE_CELLS);
+        return y * LONGITUDE_CELLS + x;
+    }
+
+    /**
+     * The {@code RiskEstimate} class holds the outcome of a simulation run: the collision
+     * probability with its 95% Wilson score interval.
+     */
+    public static final class RiskEstimate {
+        private final long trials;
+        private final long collisions;
+        private final double meanEncounters;
+
+        private RiskEstimate(long trials, long collisions, double meanEncounters) {
+            this.trials = trials;
+            this.collisions = collisions;
+            this.meanEncounters = meanEncounters;
+        }
+
+        /**
+         * Gets the number of simulated missions.
+         *
+         * @return The number of trials.
+         */
+        public long getTrials() { return trials; }
+
+        /**
+         * Gets the number of simulated missions that collided.
+         *
+         * @return The number of collisions.
+         */
+        public long getCollisions() { return collisions; }
+
+        /**
+         * Gets the mean number of debris objects a mission shared a grid cell with, summed
+         * over the days it flew.
+         *
+         * @return The mean debris encounters per mission.
+         */
+        public double getMeanEncounters() { return meanEncounters; }
+
+        /**
+         * Gets the estimated collision probability.
+         *
+         * @return The fraction of missions that collided, or {@code 0} without trials.
+         */
+        public double getProbability() {
+            return trials == 0 ? 0 : (double) collisions / trials;
+        }
+
+        /**
+         * Gets the lower bound of the 95% confidence interval of the collision probability.
+         *
+         * @return The Wilson score lower bound.
+         */
+        public double getLowerBound() {
+            return wilson(-1);
+        }
+
+        /**
+         * Gets the upper bound of the 95% confidence interval of the collision probability.
+         *
+         * @return The Wilson score upper bound.
+         */
+        public double getUpperBound() {
+            return wilson(1);
+        }
+
+        private double wilson(int sign) {
+            if (trials == 0) return sign < 0 ? 0 : 1;
+            double p = getProbability(), n = trials, z2 = Z_95 * Z_95;
+            double center = p + z2 / (2 * n);
+            double margin = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+            return Math.min(1, Math.max(0, (center + sign * margin) / (1 + z2 / n)));
+        }
+
+        /**
+         * Gets the mission risk level: "High" for a collision probability of at least 1%,
+         * "Moderate" for at least 0.1% and "Low" otherwise.
+         *
+         * @return The risk level.
+         */
+        public String getRiskLevel() {
+            double p = getProbability();
+            return p >= 0.01 ? "High" : p >= 0.001 ? "Moderate" : "Low";
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import factory.RowBinder;
+import factory.SpaceObjectFactory;
+
+/**
+ * The {@code ParallelCsvLoader} class ingests large catalog CSV files on a fork-join pool.
+ * The file is memory-mapped and cut into chunks whose boundaries fall on record breaks
+ * outside quoted fields. Chunks are parsed independently and merged into the
+ * {@link TrackingSystem} in file order, so the result matches a sequential load.
+ *
+ * <p>Boundaries are found in two parallel passes: every chunk first counts its quote bytes,
+ * a prefix sum of those counts gives the quote state at each chunk's nominal start, and each
+ * chunk then advances to the first line break that is not inside quotes.</p>
+ *
+ * <p>The quote parity only tracks {@link CsvReader} for well-formed input: a stray quote in
+ * the middle of an unquoted field is literal text to the reader but still flips the parity,
+ * so every later boundary would land inside a record. Each chunk is therefore checked to end
+ * outside quotes, and if one does not the data section is parsed again as a single chunk.</p>
+ */
+class ParallelCsvLoader {
+    static final long MIN_CHUNK = 1L << 20;
+    private static final long MAX_CHUNK = 256L << 20;
+
+    private final int parallelism;
+    private final long minChunk;
+
+    /**
+     * Constructs a new {@code ParallelCsvLoader}.
+     *
+     * @param parallelism The number of worker threads to use.
+     */
+    ParallelCsvLoader(int parallelism) {
+        this(parallelism, MIN_CHUNK);
+    }
+
+    /**
+     * Constructs a new {@code ParallelCsvLoader} with a custom minimum chunk size, so small
+     * files can be split into many chunks.
+     *
+     * @param parallelism The number of worker threads to use.
+     * @param minChunk    The minimum chunk size in bytes.
+     */
+    ParallelCsvLoader(int parallelism, long minChunk) {
+        this.parallelism = Math.max(1, parallelism);
+        this.minChunk = Math.max(1, minChunk);
+    }
+
+    /**
+     * Loads a CSV file into the given tracking system.
+     *
+     * @param filename       The CSV file to load.
+     * @param trackingSystem The tracking system to populate.
+     * @throws IOException If the file cannot be read.
+     */
+    void load(String filename, TrackingSystem trackingSystem) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = recordEnd(channel, 0, size, false);
+            if (dataStart == 0) {
+                System.err.println("CSV file is empty: " + filename);
+                return;
+            }
+
+            Map<String, Integer> header;
+            try (CsvReader csv = reader(channel, 0, dataStart)) {
+                csv.next();
+                header = TrackingSystem.indexHeader(csv);
+            }
+
+            long[] bounds = chunkBounds(channel, dataStart, size);
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                List<Chunk> chunks = pool.submit(() -> IntStream.range(0, bounds.length - 1).parallel()
+                        .mapToObj(i -> parse(channel, bounds[i], bounds[i + 1], header))
+                        .toList()).get();
+                // Only the last chunk may legitimately end inside quotes, at end of file.
+                if (chunks.subList(0, chunks.size() - 1).stream().anyMatch(c -> c.endedInQuotes)) {
+                    chunks = List.of(parse(channel, dataStart, size, header));
+                }
+                for (Chunk chunk : chunks) {
+                    for (int i = 0; i < chunk.objects.size(); i++) {
+                        trackingSystem.addObject(chunk.types.get(i), chunk.objects.get(i), chunk.hashes[i]);
+                    }
+                }
+                trackingSystem.recordIngest(filename, header);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while loading " + filename, e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof UncheckedIOException u) throw u.getCause();
+                throw new IOException("Failed to load " + filename, cause);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Splits the data section into record-aligned chunks.
+     *
+     * @return Chunk boundaries; chunk {@code i} spans {@code [bounds[i], bounds[i + 1])}.
+     */
+    private long[] chunkBounds(FileChannel channel, long dataStart, long size) {
+        long length = size - dataStart;
+        long chunkSize = Math.min(MAX_CHUNK, Math.max(minChunk, length / (parallelism * 4L) + 1));
+        int count = (int) Math.max(1, (length + chunkSize - 1) / chunkSize);
+        long[] nominal = new long[count + 1];
+        for (int i = 0; i < count; i++) nominal[i] = dataStart + i * chunkSize;
+        nominal[count] = size;
+
+        long[] quotes = IntStream.range(0, count).parallel()
+                .mapToLong(i -> countQuotes(channel, nominal[i], nominal[i + 1]))
+                .toArray();
+        boolean[] inQuotes = new boolean[count];
+        long running = 0;
+        for (int i = 0; i < count; i++) {
+            inQuotes[i] = (running & 1) == 1;
+            running += quotes[i];
+        }
+
+        long[] bounds = IntStream.rangeClosed(0, count).parallel()
+                .mapToLong(i -> i == 0 ? dataStart : i == count ? size
+                        : io(() -> recordEnd(channel, nominal[i], size, inQuotes[i])))
+                .toArray();
+        // A record longer than a chunk can push a boundary past its successor.
+        for (int i = 1; i < bounds.length; i++) bounds[i] = Math.max(bounds[i], bounds[i - 1]);
+        return bounds;
+    }
+
+    private static long countQuotes(FileChannel channel, long from, long to) {
+        MappedByteBuffer buffer = io(() -> channel.map(FileChannel.MapMode.READ_ONLY, from, to - from));
+        long count = 0;
+        while (buffer.hasRemaining()) {
+            if (buffer.get() == '"') count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the offset just past the first line break at or after {@code from} that is not
+     * inside a quoted field.
+     */
+    private static long recordEnd(FileChannel channel, long from, long size, boolean quoted) throws IOException {
+        long pos = from;
+        while (pos < size) {
+            long length = Math.min(size - pos, MAX_CHUNK);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, length);
+            for (int i = 0; i < length; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') quoted = !quoted;
+                else if (b == '\n' && !quoted) return pos + i + 1;
+            }
+            pos += length;
+        }
+        return size;
+    }
+
+    private static Chunk parse(FileChannel channel, long from, long to, Map<String, Integer> header) {
+        Chunk chunk = new Chunk();
+        if (from >= to) return chunk;
+        try (CsvReader csv = reader(channel, from, to)) {
+            RowBinder binder = SpaceObjectFactory.bind(header);
+            while (csv.next()) {
+                String objectType = binder.objectType(csv);
+                SpaceObject obj = TrackingSystem.createObject(binder, csv, objectType);
+                if (obj != null) chunk.add(objectType, obj, csv.recordHash());
+            }
+            chunk.endedInQuotes = csv.endedInQuotes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return chunk;
+    }
+
+    private static CsvReader reader(FileChannel channel, long from, long to) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        return new CsvReader(new InputStreamReader(new ByteBufferInputStream(buffer), StandardCharsets.UTF_8));
+    }
+
+    private interface IoSupplier<T> {
+        T get() throws IOException;
+    }
+
+    private static <T> T io(IoSupplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The parsed objects of one chunk, in file order.
+     */
+    private static class Chunk {
+        final List<String> types = new ArrayList<>();
+        final List<SpaceObject> objects = new ArrayList<>();
+        long[] hashes = new long[64];
+        boolean endedInQuotes;
+
+        void add(String type, SpaceObject obj, long hash) {
+            if (objects.size() == hashes.length) hashes = Arrays.copyOf(hashes, hashes.length * 2);
+            hashes[objects.size()] = hash;
+            types.add(type);
+            objects.add(obj);
+        }
+    }
+
+    /**
+     * An input stream over a mapped region, so chunks are decoded without copying.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The {@code RecordIdIndex} class maps record IDs to space objects. Catalog record IDs are
+ * NORAD-style numbers, so canonical decimal IDs (digits only, no leading zeros, at most 18
+ * digits) are stored as primitive {@code long} keys in an open-addressing table with linear
+ * probing: one {@code long} and one reference per slot, no entry objects, and lookups that
+ * parse the ID in place instead of hashing a string. Any other ID goes to a small
+ * {@code HashMap} fallback, so every string key keeps its exact identity.
+ *
+ * <p>Removal shifts later entries of the probe run back instead of leaving tombstones, so
+ * lookups stay short after incremental refreshes delete objects.</p>
+ */
+public class RecordIdIndex {
+    private static final int MIN_CAPACITY = 16;
+    private static final long NOT_NUMERIC = -1L;
+
+    private long[] keys = new long[MIN_CAPACITY];
+    private SpaceObject[] values = new SpaceObject[MIN_CAPACITY];
+    private int numericSize;
+    private final Map<String, SpaceObject> others = new HashMap<>();
+
+    /**
+     * Gets the object with a record ID.
+     *
+     * @param recordId The record ID; may be {@code null}.
+     * @return The object, or {@code null} if there is none.
+     */
+    public SpaceObject get(String recordId) {
+        long key = numericKey(recordId);
+        return key == NOT_NUMERIC ? others.get(recordId) : get(key);
+    }
+
+    /**
+     * Gets the object with a numeric record ID.
+     *
+     * @param recordId The record ID as a number.
+     * @return The object, or {@code null} if there is none.
+     */
+    public SpaceObject get(long recordId) {
+        if (recordId < 0) return null;
+        int mask = keys.length - 1;
+        for (int slot = slot(recordId, mask); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == recordId) return values[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Maps a record ID to an object.
+     *
+     * @param recordId The record ID; may be {@code null}.
+     * @param obj      The object; must not be {@code null}.
+     * @return The object previously mapped to the ID, or {@code null}.
+     */
+    public SpaceObject put(String recordId, SpaceObject obj) {
+        long key = numericKey(recordId);
+        if (key == NOT_NUMERIC) return others.put(recordId, obj);
+
+        if ((numericSize + 1) * 3 > keys.length * 2) resize(keys.length * 2);
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                SpaceObject previous = values[slot];
+                values[slot] = obj;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = obj;
+        numericSize++;
+        return null;
+    }
+
+    /**
+     * Removes the mapping of a record ID.
+     *
+     * @param recordId The record ID; may be {@code null}.
+     * @return The object that was mapped to the ID, or {@code null}.
+     */
+    public SpaceObject remove(String recordId) {
+        long key = numericKey(recordId);
+        if (key == NOT_NUMERIC) return others.remove(recordId);
+
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (values[slot] != null && keys[slot] != key) slot = (slot + 1) & mask;
+        SpaceObject removed = values[slot];
+        if (removed == null) return null;
+
+        // Shift back every later entry of the run that may not stay behind the gap.
+        int gap = slot;
+        for (int next = (gap + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        values[gap] = null;
+        numericSize--;
+        return removed;
+    }
+
+    /**
+     * Gets the number of mapped record IDs.
+     *
+     * @return The index size.
+     */
+    public int size() {
+        return numericSize + others.size();
+    }
+
+    /**
+     * Checks whether the index is empty.
+     *
+     * @return {@code true} if no record ID is mapped.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Performs an action for every mapped object, in no particular order.
+     *
+     * @param action The action to perform.
+     */
+    public void forEach(Consumer<? super SpaceObject> action) {
+        for (SpaceObject obj : values) {
+            if (obj != null) action.accept(obj);
+        }
+        others.values().forEach(action);
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        SpaceObject[] oldValues = values;
+        keys = new long[capacity];
+        values = new SpaceObject[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == null) continue;
+            int slot = slot(oldKeys[i], mask);
+            while (values[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        // Fibonacci hashing spreads sequential catalog numbers across the table.
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    /**
+     * Parses a canonical decimal record ID, or returns {@link #NOT_NUMERIC}. Only IDs whose
+     * {@code long} value prints back as the same string are accepted.
+     */
+    private static long numericKey(String recordId) {
+        if (recordId == null) return NOT_NUMERIC;
+        int length = recordId.length();
+        if (length == 0 || length > 18 || (length > 1 && recordId.charAt(0) == '0')) return NOT_NUMERIC;
+        long key = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = recordId.charAt(i) - '0';
+            if (digit < 0 || digit > 9) return NOT_NUMERIC;
+            key = key * 10 + digit;
+        }
+        return key;
+    }
+}
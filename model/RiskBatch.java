@@ -0,0 +1,85 @@
+package model;
+
+import java.util.List;
+
+/**
+ * The {@code RiskBatch} class holds the attributes of a batch of objects as primitive
+ * columns, the input a {@link RiskModel} scores. A {@link RiskPipeline} fills one batch from
+ * a catalog or a list of objects and passes it to every model in turn, so the objects are
+ * read once however many models run.
+ *
+ * <p>Columns are sized to {@link #CAPACITY}; only the first {@link #size()} entries are
+ * valid. Models must not modify them.</p>
+ */
+public final class RiskBatch {
+    /** The maximum number of objects in a batch. */
+    public static final int CAPACITY = 4096;
+
+    private final double[] longitudes = new double[CAPACITY];
+    private final double[] avgLongitudes = new double[CAPACITY];
+    private final int[] daysOld = new int[CAPACITY];
+    private final long[] conjunctionCounts = new long[CAPACITY];
+    private final int[] orbitTypeCodes = new int[CAPACITY];
+    private int size;
+
+    RiskBatch() {
+    }
+
+    /**
+     * Fills the batch from catalog rows.
+     *
+     * @param catalog The catalog to read.
+     * @param rows    The rows to read.
+     * @param from    The first row index, inclusive.
+     * @param to      The last row index, exclusive; at most {@link #CAPACITY} after {@code from}.
+     */
+    void fill(ColumnarCatalog catalog, int[] rows, int from, int to) {
+        size = to - from;
+        for (int i = 0; i < size; i++) {
+            int row = rows[from + i];
+            longitudes[i] = catalog.longitude(row);
+            avgLongitudes[i] = catalog.avgLongitude(row);
+            daysOld[i] = catalog.daysOld(row);
+            conjunctionCounts[i] = catalog.conjunctionCount(row);
+            orbitTypeCodes[i] = catalog.orbitTypeCode(row);
+        }
+    }
+
+    /**
+     * Fills the batch from objects.
+     *
+     * @param objects The objects to read.
+     * @param from    The first index, inclusive.
+     * @param to      The last index, exclusive; at most {@link #CAPACITY} after {@code from}.
+     */
+    void fill(List<? extends SpaceObject> objects, int from, int to) {
+        size = to - from;
+        for (int i = 0; i < size; i++) {
+            SpaceObject obj = objects.get(from + i);
+            longitudes[i] = obj.getLongitude();
+            avgLongitudes[i] = obj.getAvgLongitude();
+            daysOld[i] = obj.getDaysOld();
+            conjunctionCounts[i] = obj.getConjunctionCount();
+            orbitTypeCodes[i] = obj.getOrbitTypeCode();
+        }
+    }
+
+    /**
+     * Gets the number of objects in the batch.
+     *
+     * @return The batch size.
+     */
+    public int size() { return size; }
+
+    public double[] longitudes() { return longitudes; }
+    public double[] avgLongitudes() { return avgLongitudes; }
+    public int[] daysOld() { return daysOld; }
+    public long[] conjunctionCounts() { return conjunctionCounts; }
+
+    /**
+     * Gets the orbit types of the batch as {@link CatalogDictionaries#ORBIT_TYPES} codes.
+     *
+     * @return The orbit type column.
+     */
+    public int[] orbitTypeCodes() { return orbitTypeCodes; }
+}
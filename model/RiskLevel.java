@@ -0,0 +1,70 @@
+package model;
+
+/**
+ * The {@code RiskLevel} enum lists the risk categories a {@link RiskModel} assigns to an
+ * object, from lowest to highest. Each level has the label shown in menus and reports.
+ */
+public enum RiskLevel {
+    LOW("Low"),
+    MODERATE("Moderate"),
+    HIGH("High");
+
+    private static final RiskLevel[] LEVELS = values();
+
+    private final String label;
+
+    RiskLevel(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the display label of the level, e.g. "Moderate".
+     *
+     * @return The label.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Finds the level with a label, ignoring case.
+     *
+     * @param label The label, e.g. "High".
+     * @return The level, or {@code null} for a {@code null} label.
+     * @throws IllegalArgumentException If no level has the label.
+     */
+    public static RiskLevel fromLabel(String label) {
+        RiskLevel level = find(label);
+        if (level == null && label != null) throw new IllegalArgumentException("Unknown risk level: " + label);
+        return level;
+    }
+
+    /**
+     * Finds the level with a label, ignoring case, without rejecting unknown labels.
+     *
+     * @param label The label, e.g. "High"; may be {@code null}.
+     * @return The level, or {@code null} if no level has the label.
+     */
+    static RiskLevel find(String label) {
+        if (label == null) return null;
+        for (RiskLevel level : LEVELS) {
+            if (level.label.equalsIgnoreCase(label)) return level;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the level with an ordinal, as stored in compact result arrays.
+     *
+     * @param ordinal The ordinal.
+     * @return The level.
+     */
+    static RiskLevel of(int ordinal) {
+        return LEVELS[ordinal];
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,37 @@
+package model;
+
+/**
+ * The {@code RiskModel} interface is implemented by the risk models a {@link RiskPipeline}
+ * runs. A model scores a whole {@link RiskBatch} at once, reading only the primitive
+ * columns it needs, and maps each score to a {@link RiskLevel}. The built-in models are in
+ * {@link RiskModels}.
+ *
+ * <p>Models are called from several threads at once with different batches and must
+ * therefore keep no state between calls.</p>
+ */
+public interface RiskModel {
+
+    /**
+     * Gets the name of the model, shown in menus and reports.
+     *
+     * @return The model name.
+     */
+    String name();
+
+    /**
+     * Scores every object of a batch; higher scores mean higher risk.
+     *
+     * @param batch  The objects to score.
+     * @param scores Receives the score of object {@code i} at index {@code i}, for every
+     *               {@code i} below {@code batch.size()}.
+     */
+    void score(RiskBatch batch, double[] scores);
+
+    /**
+     * Gets the risk level of a score.
+     *
+     * @param score A score computed by this model.
+     * @return The risk level.
+     */
+    RiskLevel level(double score);
+}
@@ -0,0 +1,87 @@
+package model;
+
+/**
+ * The {@code RiskModels} class holds the built-in {@link RiskModel}s. All of them score the
+ * longitude drift of an object, the distance in degrees between its longitude and average
+ * longitude, weighted by a further attribute, and share the drift thresholds: a score above
+ * 50 is "High", above 10 "Moderate" and "Low" otherwise.
+ */
+public final class RiskModels {
+    private static final double HIGH_THRESHOLD = 50;
+    private static final double MODERATE_THRESHOLD = 10;
+    private static final double DAYS_PER_DECADE = 3652.5;
+
+    /** Scores the longitude drift alone. */
+    public static final RiskModel DRIFT = new ThresholdModel("Drift") {
+        @Override
+        public void score(RiskBatch batch, double[] scores) {
+            double[] longitudes = batch.longitudes(), avgLongitudes = batch.avgLongitudes();
+            for (int i = 0, n = batch.size(); i < n; i++) {
+                scores[i] = Math.abs(longitudes[i] - avgLongitudes[i]);
+            }
+        }
+    };
+
+    /**
+     * Scores the longitude drift scaled by {@code 1 + ln(1 + conjunctions)}, so that objects
+     * in crowded regions reach a level with less drift.
+     */
+    public static final RiskModel CONJUNCTION_WEIGHTED = new ThresholdModel("Conjunction-weighted") {
+        @Override
+        public void score(RiskBatch batch, double[] scores) {
+            double[] longitudes = batch.longitudes(), avgLongitudes = batch.avgLongitudes();
+            long[] conjunctions = batch.conjunctionCounts();
+            for (int i = 0, n = batch.size(); i < n; i++) {
+                scores[i] = Math.abs(longitudes[i] - avgLongitudes[i]) * (1 + Math.log1p(Math.max(0, conjunctions[i])));
+            }
+        }
+    };
+
+    /**
+     * Scores the longitude drift scaled by {@code 1 + age / 10 years}, so that long
+     * uncontrolled objects reach a level with less drift.
+     */
+    public static final RiskModel AGE_WEIGHTED = new ThresholdModel("Age-weighted") {
+        @Override
+        public void score(RiskBatch batch, double[] scores) {
+            double[] longitudes = batch.longitudes(), avgLongitudes = batch.avgLongitudes();
+            int[] daysOld = batch.daysOld();
+            for (int i = 0, n = batch.size(); i < n; i++) {
+                scores[i] = Math.abs(longitudes[i] - avgLongitudes[i]) * (1 + Math.max(0, daysOld[i]) / DAYS_PER_DECADE);
+            }
+        }
+    };
+
+    private RiskModels() {
+    }
+
+    /**
+     * Gets every built-in model, the plain drift model first.
+     *
+     * @return The built-in models.
+     */
+    public static RiskModel[] all() {
+        return new RiskModel[] {DRIFT, CONJUNCTION_WEIGHTED, AGE_WEIGHTED};
+    }
+
+    /**
+     * A model that maps scores to levels by the shared drift thresholds.
+     */
+    private abstract static class ThresholdModel implements RiskModel {
+        private final String name;
+
+        ThresholdModel(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public RiskLevel level(double score) {
+            return score > HIGH_THRESHOLD ? RiskLevel.HIGH : score > MODERATE_THRESHOLD ? RiskLevel.MODERATE : RiskLevel.LOW;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package model;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code RiskPipeline} class runs several {@link RiskModel}s over a set of objects in one
+ * fused pass. The objects are cut into batches of {@link RiskBatch#CAPACITY}; each batch is
+ * read into primitive columns once and then scored by every model while it is still in
+ * cache. Batches are evaluated in parallel and every batch writes only its own slice of the
+ * result, so the result does not depend on the number of threads.
+ *
+ * <p>Results are stored compactly: one score array and one byte array of level ordinals per
+ * model.</p>
+ */
+public final class RiskPipeline {
+    private final RiskModel[] models;
+
+    /**
+     * Constructs a pipeline.
+     *
+     * @param models The models to run, in result order.
+     * @throws IllegalArgumentException If no model is given.
+     */
+    public RiskPipeline(RiskModel... models) {
+        if (models.length == 0) throw new IllegalArgumentException("A risk pipeline needs at least one model");
+        this.models = models.clone();
+    }
+
+    /**
+     * Gets the models of the pipeline.
+     *
+     * @return The models, in result order.
+     */
+    public List<RiskModel> models() {
+        return List.of(models);
+    }
+
+    /**
+     * Evaluates every model over some rows of a catalog.
+     *
+     * @param catalog The catalog to read.
+     * @param rows    The rows to evaluate, e.g. from a {@link BitmapIndex} lookup.
+     * @return The scores and levels, indexed like {@code rows}.
+     */
+    public Result evaluate(ColumnarCatalog catalog, int[] rows) {
+        Result result = new Result(models, rows.length);
+        forEachBatch(rows.length, from -> {
+            RiskBatch batch = new RiskBatch();
+            batch.fill(catalog, rows, from, Math.min(rows.length, from + RiskBatch.CAPACITY));
+            evaluate(batch, result, from);
+        });
+        return result;
+    }
+
+    /**
+     * Evaluates every model over a list of objects.
+     *
+     * @param objects The objects to evaluate; must not be changed concurrently.
+     * @return The scores and levels, indexed like {@code objects}.
+     */
+    public Result evaluate(List<? extends SpaceObject> objects) {
+        Result result = new Result(models, objects.size());
+        forEachBatch(objects.size(), from -> {
+            RiskBatch batch = new RiskBatch();
+            batch.fill(objects, from, Math.min(objects.size(), from + RiskBatch.CAPACITY));
+            evaluate(batch, result, from);
+        });
+        return result;
+    }
+
+    /**
+     * Creates an empty result for this pipeline, to be filled batch by batch.
+     */
+    Result newResult(int size) {
+        return new Result(models, size);
+    }
+
+    /**
+     * Scores a filled batch with every model, writing the slice of the result that starts at
+     * {@code offset}.
+     */
+    void evaluate(RiskBatch batch, Result result, int offset) {
+        double[] scores = new double[RiskBatch.CAPACITY];
+        for (int m = 0; m < models.length; m++) {
+            RiskModel model = models[m];
+            model.score(batch, scores);
+            System.arraycopy(scores, 0, result.scores[m], offset, batch.size());
+            byte[] levels = result.levels[m];
+            for (int i = 0; i < batch.size(); i++) {
+                levels[offset + i] = (byte) model.level(scores[i]).ordinal();
+            }
+        }
+    }
+
+    private static void forEachBatch(int size, IntConsumer batch) {
+        int batches = (size + RiskBatch.CAPACITY - 1) / RiskBatch.CAPACITY;
+        IntStream.range(0, batches).parallel().forEach(b -> batch.accept(b * RiskBatch.CAPACITY));
+    }
+
+    /**
+     * The {@code Result} class holds the scores and risk levels a pipeline computed, per
+     * model and object.
+     */
+    public static final class Result {
+        private final RiskModel[] models;
+        private final double[][] scores;
+        private final byte[][] levels;
+        private final int size;
+
+        private Result(RiskModel[] models, int size) {
+            this.models = models;
+            this.size = size;
+            scores = new double[models.length][size];
+            levels = new byte[models.length][size];
+        }
+
+        /**
+         * Gets the number of evaluated objects.
+         *
+         * @return The result size.
+         */
+        public int size() { return size; }
+
+        /**
+         * Gets the number of models.
+         *
+         * @return The model count.
+         */
+        public int modelCount() { return models.length; }
+
+        /**
+         * Gets a model of the pipeline.
+         *
+         * @param model The model index.
+         * @return The model.
+         */
+        public RiskModel model(int model) { return models[model]; }
+
+        /**
+         * Gets the score a model gave an object.
+         *
+         * @param model The model index.
+         * @param i     The object index.
+         * @return The score.
+         */
+        public double score(int model, int i) { return scores[model][i]; }
+
+        /**
+         * Gets the risk level a model gave an object.
+         *
+         * @param model The model index.
+         * @param i     The object index.
+         * @return The risk level.
+         */
+        public RiskLevel level(int model, int i) { return RiskLevel.of(levels[model][i]); }
+
+        /**
+         * Counts the objects a model put at a risk level.
+         *
+         * @param model The model index.
+         * @param level The risk level.
+         * @return The number of objects at the level.
+         */
+        public int count(int model, RiskLevel level) {
+            byte ordinal = (byte) level.ordinal();
+            int count = 0;
+            for (byte l : levels[model]) {
+                if (l == ordinal) count++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package model;
+
+/**
+ * The {@code SortedRows} class holds catalog rows next to a {@code long} sort key per row, both
+ * in primitive arrays in ascending key order with ties kept in row order, and finds key ranges
+ * by binary search. It is the shared storage behind the sorted indexes: {@link GeoIndex} keys
+ * rows by {@link GeoCell} and {@link LongitudeIndex} by {@link #key(double)}.
+ */
+final class SortedRows {
+    final long[] keys;
+    final int[] rows;
+
+    /**
+     * Sorts the given keys and rows together. The arrays are taken over, not copied.
+     *
+     * @param keys The sort key of each entry.
+     * @param rows The catalog row of each entry.
+     */
+    SortedRows(long[] keys, int[] rows) {
+        this.keys = keys;
+        this.rows = rows;
+        sort(0, keys.length - 1);
+    }
+
+    /**
+     * Maps a {@code double} to a key with the same ordering, so doubles can be indexed as
+     * {@code long}s. Negative zero maps to the key of positive zero.
+     *
+     * @param value The value to map.
+     * @return The sort key.
+     */
+    static long key(double value) {
+        long bits = Double.doubleToLongBits(value + 0.0);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return The entry count.
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Finds the first position whose key is not less than {@code key}.
+     */
+    int lowerBound(long key) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position whose key is greater than {@code key}.
+     */
+    int upperBound(long key) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Sorts the key and row arrays together by key, keeping rows with equal keys in catalog
+     * order so results are deterministic.
+     */
+    private void sort(int low, int high) {
+        while (high - low > 16) {
+            int mid = (low + high) >>> 1;
+            long pivotKey = keys[mid];
+            int pivotRow = rows[mid];
+            int i = low, j = high;
+            while (i <= j) {
+                while (less(i, pivotKey, pivotRow)) i++;
+                while (greater(j, pivotKey, pivotRow)) j--;
+                if (i <= j) swap(i++, j--);
+            }
+            // Recurse into the smaller half to bound stack depth.
+            if (j - low < high - i) {
+                sort(low, j);
+                low = i;
+            } else {
+                sort(i, high);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && less(j, keys[j - 1], rows[j - 1]); j--) swap(j, j - 1);
+        }
+    }
+
+    private boolean less(int i, long key, int row) {
+        return keys[i] < key || (keys[i] == key && rows[i] < row);
+    }
+
+    private boolean greater(int i, long key, int row) {
+        return keys[i] > key || (keys[i] == key && rows[i] > row);
+    }
+
+    private void swap(int i, int j) {
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int row = rows[i];
+        rows[i] = rows[j];
+        rows[j] = row;
+    }
+}
@@ -5,19 +5,32 @@ package model;
  * It implements the {@code Satellite} interface and provides common properties
  * and methods for all space objects, such as record ID, satellite name, country,
  * orbit type, and other attributes.
+ *
+ * <p>Country, orbit type, launch site and object type are stored as codes into the shared
+ * {@link CatalogDictionaries} tables; the string getters and setters translate on access.
+ * The geohash is also decoded once into a numeric {@link GeoCell} for spatial indexing.</p>
+ *
+ * <p>Every setter bumps a modification count, so consumers that derive results from an
+ * object can remember the count they saw and treat the object as dirty once it moves on.</p>
  */
 public abstract class SpaceObject implements Satellite {
     private String recordId;
     private String satelliteName;
-    private String country;
-    private String orbitType;
+    private int countryCode;
+    private int orbitTypeCode;
+    private int objectTypeCode;
     private int launchYear;
-    private String launchSite;
+    private int launchSiteCode;
     private double longitude;
     private double avgLongitude;
     private String geohash;
+    private long geoCell;
     private int daysOld;
     private long conjunctionCount;
+    private boolean nominated;
+    private boolean hasDossier;
+    private boolean unkObject;
+    private int modCount;
 
     /**
      * Constructs a new {@code SpaceObject} with the specified parameters.
@@ -39,13 +52,14 @@ public abstract class SpaceObject implements Satellite {
                        double avgLongitude, String geohash, int daysOld, long conjunctionCount) {
         this.recordId = recordId;
         this.satelliteName = satelliteName;
-        this.country = country;
-        this.orbitType = orbitType;
+        this.countryCode = CatalogDictionaries.COUNTRIES.encode(country);
+        this.orbitTypeCode = CatalogDictionaries.ORBIT_TYPES.encode(orbitType);
         this.launchYear = launchYear;
-        this.launchSite = launchSite;
+        this.launchSiteCode = CatalogDictionaries.LAUNCH_SITES.encode(launchSite);
         this.longitude = longitude;
         this.avgLongitude = avgLongitude;
         this.geohash = geohash;
+        this.geoCell = GeoCell.parse(geohash);
         this.daysOld = daysOld;
         this.conjunctionCount = conjunctionCount;
     }
@@ -62,7 +76,7 @@ public abstract class SpaceObject implements Satellite {
      *
      * @param recordId The record ID to set.
      */
-    public void setRecordId(String recordId) { this.recordId = recordId; }
+    public void setRecordId(String recordId) { this.recordId = recordId; modCount++; }
 
     /**
      * Gets the name of the satellite associated with the space object.
@@ -76,35 +90,83 @@ public abstract class SpaceObject implements Satellite {
      *
      * @param satelliteName The satellite name to set.
      */
-    public void setSatelliteName(String satelliteName) { this.satelliteName = satelliteName; }
+    public void setSatelliteName(String satelliteName) { this.satelliteName = satelliteName; modCount++; }
 
     /**
      * Gets the country responsible for the space object.
      *
      * @return The country responsible for the space object.
      */
-    public String getCountry() { return country; }
+    public String getCountry() { return CatalogDictionaries.COUNTRIES.decode(countryCode); }
 
     /**
      * Sets the country responsible for the space object.
      *
      * @param country The country to set.
      */
-    public void setCountry(String country) { this.country = country; }
+    public void setCountry(String country) { this.countryCode = CatalogDictionaries.COUNTRIES.encode(country); modCount++; }
+
+    /**
+     * Gets the dictionary code of the country responsible for the space object.
+     *
+     * @return The code of the country in {@link CatalogDictionaries#COUNTRIES}.
+     */
+    public int getCountryCode() { return countryCode; }
 
     /**
      * Gets the type of orbit the space object is in.
      *
      * @return The orbit type of the space object.
      */
-    public String getOrbitType() { return orbitType; }
+    public String getOrbitType() { return CatalogDictionaries.ORBIT_TYPES.decode(orbitTypeCode); }
 
     /**
      * Sets the type of orbit the space object is in.
      *
      * @param orbitType The orbit type to set.
      */
-    public void setOrbitType(String orbitType) { this.orbitType = orbitType; }
+    public void setOrbitType(String orbitType) { this.orbitTypeCode = CatalogDictionaries.ORBIT_TYPES.encode(orbitType); modCount++; }
+
+    /**
+     * Gets the dictionary code of the type of orbit the space object is in.
+     *
+     * @return The code of the orbit type in {@link CatalogDictionaries#ORBIT_TYPES}.
+     */
+    public int getOrbitTypeCode() { return orbitTypeCode; }
+
+    /**
+     * Checks whether the space object is in the given orbit type, ignoring case.
+     * Filters over many objects should resolve the folded code once with
+     * {@link StringDictionary#findIgnoreCase(String)} and compare codes directly.
+     *
+     * @param orbitType The orbit type to test for, e.g. "LEO".
+     * @return {@code true} if the orbit types match.
+     */
+    public boolean hasOrbitType(String orbitType) {
+        return CatalogDictionaries.ORBIT_TYPES.foldedCode(orbitTypeCode)
+                == CatalogDictionaries.ORBIT_TYPES.findIgnoreCase(orbitType);
+    }
+
+    /**
+     * Gets the object type the space object is filed under in the tracking system.
+     *
+     * @return The object type (e.g., "DEBRIS"), or {@code null} if the object is not tracked.
+     */
+    public String getObjectType() { return CatalogDictionaries.OBJECT_TYPES.decode(objectTypeCode); }
+
+    /**
+     * Sets the object type the space object is filed under in the tracking system.
+     *
+     * @param objectType The object type to set.
+     */
+    public void setObjectType(String objectType) { this.objectTypeCode = CatalogDictionaries.OBJECT_TYPES.encode(objectType); modCount++; }
+
+    /**
+     * Gets the dictionary code of the object type.
+     *
+     * @return The code of the object type in {@link CatalogDictionaries#OBJECT_TYPES}.
+     */
+    public int getObjectTypeCode() { return objectTypeCode; }
 
     /**
      * Gets the year the space object was launched.
@@ -118,21 +180,28 @@ public abstract class SpaceObject implements Satellite {
      *
      * @param launchYear The launch year to set.
      */
-    public void setLaunchYear(int launchYear) { this.launchYear = launchYear; }
+    public void setLaunchYear(int launchYear) { this.launchYear = launchYear; modCount++; }
 
     /**
      * Gets the site where the space object was launched.
      *
      * @return The launch site of the space object.
      */
-    public String getLaunchSite() { return launchSite; }
+    public String getLaunchSite() { return CatalogDictionaries.LAUNCH_SITES.decode(launchSiteCode); }
 
     /**
      * Sets the site where the space object was launched.
      *
      * @param launchSite The launch site to set.
      */
-    public void setLaunchSite(String launchSite) { this.launchSite = launchSite; }
+    public void setLaunchSite(String launchSite) { this.launchSiteCode = CatalogDictionaries.LAUNCH_SITES.encode(launchSite); modCount++; }
+
+    /**
+     * Gets the dictionary code of the site where the space object was launched.
+     *
+     * @return The code of the launch site in {@link CatalogDictionaries#LAUNCH_SITES}.
+     */
+    public int getLaunchSiteCode() { return launchSiteCode; }
 
     /**
      * Gets the current longitude of the space object.
@@ -146,7 +215,7 @@ public abstract class SpaceObject implements Satellite {
      *
      * @param longitude The longitude to set.
      */
-    public void setLongitude(double longitude) { this.longitude = longitude; }
+    public void setLongitude(double longitude) { this.longitude = longitude; modCount++; }
 
     /**
      * Gets the average longitude of the space object.
@@ -160,7 +229,14 @@ public abstract class SpaceObject implements Satellite {
      *
      * @param avgLongitude The average longitude to set.
      */
-    public void setAvgLongitude(double avgLongitude) { this.avgLongitude = avgLongitude; }
+    public void setAvgLongitude(double avgLongitude) { this.avgLongitude = avgLongitude; modCount++; }
+
+    /**
+     * Gets how far the space object has drifted from its average longitude.
+     *
+     * @return The absolute difference between the longitude and the average longitude.
+     */
+    public double getLongitudeDrift() { return Math.abs(longitude - avgLongitude); }
 
     /**
      * Gets the geohash location of the space object.
@@ -174,7 +250,18 @@ public abstract class SpaceObject implements Satellite {
      *
      * @param geohash The geohash to set.
      */
-    public void setGeohash(String geohash) { this.geohash = geohash; }
+    public void setGeohash(String geohash) {
+        this.geohash = geohash;
+        this.geoCell = GeoCell.parse(geohash);
+        modCount++;
+    }
+
+    /**
+     * Gets the decoded position of the space object as a Z-order cell.
+     *
+     * @return The {@link GeoCell} of the geohash, or {@link GeoCell#NO_CELL} if it cannot be decoded.
+     */
+    public long getGeoCell() { return geoCell; }
 
     /**
      * Gets the age of the space object in days.
@@ -188,7 +275,7 @@ public abstract class SpaceObject implements Satellite {
      *
      * @param daysOld The age in days to set.
      */
-    public void setDaysOld(int daysOld) { this.daysOld = daysOld; }
+    public void setDaysOld(int daysOld) { this.daysOld = daysOld; modCount++; }
 
     /**
      * Gets the number of conjunction events involving the space object.
@@ -202,7 +289,57 @@ public abstract class SpaceObject implements Satellite {
      *
      * @param conjunctionCount The conjunction count to set.
      */
-    public void setConjunctionCount(long conjunctionCount) { this.conjunctionCount = conjunctionCount; }
+    public void setConjunctionCount(long conjunctionCount) { this.conjunctionCount = conjunctionCount; modCount++; }
+
+    /**
+     * Checks whether the space object has been nominated for further analysis.
+     *
+     * @return {@code true} if the object is nominated.
+     */
+    public boolean isNominated() { return nominated; }
+
+    /**
+     * Sets whether the space object has been nominated for further analysis.
+     *
+     * @param nominated The nomination flag to set.
+     */
+    public void setNominated(boolean nominated) { this.nominated = nominated; modCount++; }
+
+    /**
+     * Checks whether a dossier exists for the space object.
+     *
+     * @return {@code true} if the object has a dossier.
+     */
+    public boolean hasDossier() { return hasDossier; }
+
+    /**
+     * Sets whether a dossier exists for the space object.
+     *
+     * @param hasDossier The dossier flag to set.
+     */
+    public void setHasDossier(boolean hasDossier) { this.hasDossier = hasDossier; modCount++; }
+
+    /**
+     * Checks whether the space object is flagged as an unknown object in the source data.
+     *
+     * @return {@code true} if the object is flagged as unknown.
+     */
+    public boolean isUnkObject() { return unkObject; }
+
+    /**
+     * Sets whether the space object is flagged as an unknown object in the source data.
+     *
+     * @param unkObject The unknown-object flag to set.
+     */
+    public void setUnkObject(boolean unkObject) { this.unkObject = unkObject; modCount++; }
+
+    /**
+     * Gets the number of changes made to the space object through its setters. An object is
+     * dirty for a consumer when this differs from the count the consumer last saw.
+     *
+     * @return The modification count.
+     */
+    public int getModCount() { return modCount; }
 
     /**
      * Displays detailed information about the space object.
@@ -0,0 +1,110 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code StringDictionary} class assigns small integer codes to strings so that
+ * low-cardinality columns can be stored and compared as {@code int}s. Code {@code 0} is
+ * reserved for {@code null}; every distinct non-null string receives the next free code.
+ *
+ * <p>Besides its exact code, every value has a folded code shared by all values that are
+ * equal ignoring case, so case-insensitive filters also reduce to {@code int} comparisons.</p>
+ *
+ * <p>Dictionaries are safe for concurrent use, so loaders running on several threads can
+ * encode into the same dictionary.</p>
+ */
+public class StringDictionary {
+    /** The code used for {@code null} values. */
+    public static final int NULL_CODE = 0;
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> foldedCodes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[16];
+    private volatile int[] folded = new int[16];
+    private volatile int size = 1;
+
+    /**
+     * Gets the code for a value, adding the value to the dictionary if needed.
+     *
+     * @param value The value to encode; may be {@code null}.
+     * @return The value's code.
+     */
+    public int encode(String value) {
+        if (value == null) return NULL_CODE;
+        Integer code = codes.get(value);
+        return code != null ? code : add(value);
+    }
+
+    private synchronized int add(String value) {
+        Integer code = codes.get(value);
+        if (code != null) return code;
+        String[] table = values;
+        int[] foldTable = folded;
+        if (size == table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+            foldTable = Arrays.copyOf(foldTable, foldTable.length * 2);
+        }
+        table[size] = value;
+        foldTable[size] = foldedCodes.computeIfAbsent(value.toUpperCase(Locale.ROOT), k -> size);
+        folded = foldTable;
+        values = table;
+        codes.put(value, size);
+        return size++;
+    }
+
+    /**
+     * Gets the code of a value without adding it.
+     *
+     * @param value The value to look up.
+     * @return The value's code, or {@code -1} if the value has never been encoded.
+     */
+    public int find(String value) {
+        if (value == null) return NULL_CODE;
+        Integer code = codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Gets the folded code of a value, matching any value that is equal ignoring case.
+     *
+     * @param value The value to look up.
+     * @return The folded code, or {@code -1} if no such value has been encoded.
+     */
+    public int findIgnoreCase(String value) {
+        if (value == null) return NULL_CODE;
+        Integer code = foldedCodes.get(value.toUpperCase(Locale.ROOT));
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Gets the folded code for a code. Two codes have the same folded code exactly when
+     * their values are equal ignoring case.
+     *
+     * @param code A code returned by {@link #encode(String)}.
+     * @return The folded code.
+     */
+    public int foldedCode(int code) {
+        return code == NULL_CODE ? NULL_CODE : folded[code];
+    }
+
+    /**
+     * Gets the value for a code.
+     *
+     * @param code A code returned by {@link #encode(String)}.
+     * @return The shared string instance for the code, or {@code null} for {@link #NULL_CODE}.
+     */
+    public String decode(int code) {
+        return values[code];
+    }
+
+    /**
+     * Gets the number of codes in use, including {@link #NULL_CODE}.
+     *
+     * @return The dictionary size.
+     */
+    public int size() {
+        return size;
+    }
+}
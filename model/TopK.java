@@ -0,0 +1,246 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code TopK} class selects the first {@code k} items of an ordering without sorting
+ * everything. Items are passed through a bounded heap that holds the best {@code k} seen so
+ * far with the worst of them on top, so each item costs at most {@code O(log k)} and only the
+ * {@code k} survivors are sorted at the end.
+ *
+ * <p>Row scores, e.g. over a {@link ColumnarCatalog}, are selected in parallel: every chunk of
+ * rows keeps its own primitive heap and the partial results are merged into one.</p>
+ */
+public final class TopK {
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    private TopK() {
+    }
+
+    /**
+     * Selects the first {@code k} items in an order. Items that compare equal keep their
+     * encounter order, so the result equals sorting every item stably and taking {@code k}.
+     *
+     * @param items The items to select from.
+     * @param k     The number of items to keep.
+     * @param order The order to select by; the first items in this order are kept.
+     * @param <T>   The item type.
+     * @return At most {@code k} items, in order.
+     */
+    public static <T> List<T> select(Iterator<? extends T> items, int k, Comparator<? super T> order) {
+        ItemHeap<T> heap = new ItemHeap<>(k, order);
+        while (items.hasNext()) heap.offer(items.next());
+        return heap.sorted();
+    }
+
+    /**
+     * Selects the {@code k} catalog rows with the highest scores. Rows with equal scores are
+     * taken in catalog order; rows scoring {@code NaN} are never selected.
+     *
+     * @param catalog The catalog to rank.
+     * @param k       The number of rows to keep.
+     * @param score   The score of a row.
+     * @return At most {@code k} rows, highest score first.
+     */
+    public static int[] rows(ColumnarCatalog catalog, int k, IntToDoubleFunction score) {
+        return select(catalog.size(), k, score);
+    }
+
+    /**
+     * Selects the {@code k} indexes in {@code [0, size)} with the highest scores. Indexes with
+     * equal scores are taken in ascending order; indexes scoring {@code NaN} are never selected.
+     *
+     * @param size  The number of indexes to rank.
+     * @param k     The number of indexes to keep.
+     * @param score The score of an index.
+     * @return At most {@code k} indexes, highest score first.
+     */
+    public static int[] select(int size, int k, IntToDoubleFunction score) {
+        if (k <= 0 || size == 0) return new int[0];
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<RowHeap> partials = IntStream.range(0, chunks).parallel().mapToObj(c -> {
+            RowHeap heap = new RowHeap(Math.min(k, CHUNK_SIZE));
+            for (int row = c * CHUNK_SIZE, end = Math.min(size, row + CHUNK_SIZE); row < end; row++) {
+                heap.offer(score.applyAsDouble(row), row);
+            }
+            return heap;
+        }).toList();
+        if (partials.size() == 1) return partials.get(0).sorted();
+
+        RowHeap merged = new RowHeap(Math.min(k, size));
+        for (RowHeap partial : partials) {
+            for (int i = 0; i < partial.size; i++) merged.offer(partial.scores[i], partial.rows[i]);
+        }
+        return merged.sorted();
+    }
+
+    /**
+     * A bounded heap of objects with the last kept item on top. Arrival numbers break ties
+     * so that earlier items win.
+     */
+    private static class ItemHeap<T> {
+        private final int capacity;
+        private final Comparator<? super T> order;
+        private Object[] items = new Object[16];
+        private long[] arrivals = new long[16];
+        private int size;
+        private long arrived;
+
+        ItemHeap(int capacity, Comparator<? super T> order) {
+            this.capacity = Math.max(0, capacity);
+            this.order = order;
+        }
+
+        void offer(T item) {
+            long arrival = arrived++;
+            if (size < capacity) {
+                if (size == items.length) {
+                    items = Arrays.copyOf(items, size * 2);
+                    arrivals = Arrays.copyOf(arrivals, size * 2);
+                }
+                items[size] = item;
+                arrivals[size] = arrival;
+                siftUp(size++);
+            } else if (capacity > 0 && compare(item, arrival, 0) < 0) {
+                items[0] = item;
+                arrivals[0] = arrival;
+                siftDown(0);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(Object item, long arrival, int slot) {
+            int c = order.compare((T) item, (T) items[slot]);
+            return c != 0 ? c : Long.compare(arrival, arrivals[slot]);
+        }
+
+        /** Whether slot {@code a} should sit above slot {@code b}, i.e. comes later in order. */
+        private boolean above(int a, int b) {
+            return compare(items[a], arrivals[a], b) > 0;
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (!above(slot, parent)) break;
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int child = 2 * slot + 1;
+                if (child >= size) break;
+                if (child + 1 < size && above(child + 1, child)) child++;
+                if (!above(child, slot)) break;
+                swap(slot, child);
+                slot = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            Object item = items[a];
+            items[a] = items[b];
+            items[b] = item;
+            long arrival = arrivals[a];
+            arrivals[a] = arrivals[b];
+            arrivals[b] = arrival;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> sorted() {
+            Object[] result = new Object[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = items[0];
+                swap(0, --size);
+                siftDown(0);
+            }
+            List<T> list = new ArrayList<>(result.length);
+            for (Object item : result) list.add((T) item);
+            return list;
+        }
+    }
+
+    /**
+     * A bounded min-heap of row scores with the lowest kept score on top; among equal scores
+     * the later row is on top.
+     */
+    private static class RowHeap {
+        private final double[] scores;
+        private final int[] rows;
+        private int size;
+
+        RowHeap(int capacity) {
+            scores = new double[capacity];
+            rows = new int[capacity];
+        }
+
+        void offer(double score, int row) {
+            if (Double.isNaN(score)) return;
+            if (size < scores.length) {
+                scores[size] = score;
+                rows[size] = row;
+                siftUp(size++);
+            } else if (scores.length > 0 && worse(scores[0], rows[0], score, row)) {
+                scores[0] = score;
+                rows[0] = row;
+                siftDown(0);
+            }
+        }
+
+        /** Whether the first entry ranks below the second one. */
+        private static boolean worse(double score, int row, double otherScore, int otherRow) {
+            return score < otherScore || (score == otherScore && row > otherRow);
+        }
+
+        private boolean worse(int a, int b) {
+            return worse(scores[a], rows[a], scores[b], rows[b]);
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (!worse(slot, parent)) break;
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int child = 2 * slot + 1;
+                if (child >= size) break;
+                if (child + 1 < size && worse(child + 1, child)) child++;
+                if (!worse(child, slot)) break;
+                swap(slot, child);
+                slot = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+        }
+
+        int[] sorted() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = rows[0];
+                swap(0, --size);
+                siftDown(0);
+            }
+            return result;
+        }
+    }
+}
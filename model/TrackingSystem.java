@@ -1,7 +1,12 @@
 package model;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import factory.RowBinder;
 import factory.SpaceObjectFactory;
 
 /**
@@ -12,7 +17,21 @@ import factory.SpaceObjectFactory;
 public class TrackingSystem {
 
     private Map<String, List<SpaceObject>> objectTypeMap;
-    private Map<String, SpaceObject> objectById;
+    private RecordIdIndex objectById;
+    private int modCount;
+    private ColumnarCatalog columnarCatalog;
+    private int columnarVersion = -1;
+    private LongitudeIndex longitudeIndex;
+    private GeoIndex geoIndex;
+    private BitmapIndex bitmapIndex;
+    private final Map<SpaceObject, Long> rowHashes = new IdentityHashMap<>();
+    private final Set<SpaceObject> tracked = Collections.newSetFromMap(new IdentityHashMap<>());
+    private IngestState ingest;
+    private final List<CatalogListener> listeners = new ArrayList<>();
+    private final Map<String, CatalogView> views = new LinkedHashMap<>();
+    private final Map<String, CatalogRanking> rankings = new LinkedHashMap<>();
+    private AggregateCube aggregateCube;
+    private DebrisAssessment debrisAssessment;
 
     /**
      * Constructs a new {@code TrackingSystem} instance.
@@ -20,77 +39,865 @@ public class TrackingSystem {
      */
     public TrackingSystem() {
         objectTypeMap = new HashMap<>();
-        objectById = new HashMap<>();
+        objectById = new RecordIdIndex();
     }
 
     /**
      * Loads space object data from a CSV file and populates the internal data structures.
-     * Handles arbitrary column order using header mapping.
+     * Handles arbitrary column order using header mapping. Records are tokenized in a single
+     * quote-aware pass, so quoted fields such as {@code geohash} may contain commas.
      *
      * @param filename The name of the CSV file containing space object data.
      */
     public void loadObjectsFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String[] headers = br.readLine().split(",");
-            Map<String, Integer> headerMap = new HashMap<>();
-
-            // 🧼 Normalize headers (remove ?, quotes, normalize underscores)
-            for (int i = 0; i < headers.length; i++) {
-                String cleanKey = headers[i].trim().toLowerCase()
-                    .replace("?", "")
-                    .replace("\"", "")
-                    .replace(" ", "_")
-                    .replaceAll("[^a-z0-9_]", "");
-                headerMap.put(cleanKey, i);
+        try (CsvReader csv = new CsvReader(new InputStreamReader(new FileInputStream(filename), StandardCharsets.UTF_8))) {
+            if (!csv.next()) {
+                System.err.println("CSV file is empty: " + filename);
+                return;
             }
+            Map<String, Integer> header = indexHeader(csv);
+            RowBinder binder = SpaceObjectFactory.bind(header);
 
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] values = line.split(",", -1);
-                Map<String, String> row = new HashMap<>();
+            while (csv.next()) {
+                String objectType = binder.objectType(csv);
+                SpaceObject obj = createObject(binder, csv, objectType);
+                if (obj != null) addObject(objectType, obj, csv.recordHash());
+            }
+            ingest = IngestState.capture(filename, header);
 
-                for (Map.Entry<String, Integer> entry : headerMap.entrySet()) {
-                    int index = entry.getValue();
-                    String value = (index < values.length) ? values[index].trim() : "";
-                    row.put(entry.getKey(), value);
+            System.out.println("Loaded space object data successfully.");
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads space object data from a CSV file using all available cores. The file is
+     * memory-mapped and split into record-aligned chunks that are parsed in parallel; the
+     * resulting catalog is identical to the one built by {@link #loadObjectsFromCSV(String)}.
+     *
+     * @param filename The name of the CSV file containing space object data.
+     */
+    public void loadObjectsFromCSVParallel(String filename) {
+        loadObjectsFromCSVParallel(filename, Runtime.getRuntime().availableProcessors(), ParallelCsvLoader.MIN_CHUNK);
+    }
+
+    /**
+     * Loads space object data from a CSV file in parallel with explicit tuning. The chunk
+     * size is a lower bound; larger files are still split into a few chunks per thread.
+     *
+     * @param filename    The name of the CSV file containing space object data.
+     * @param parallelism The number of worker threads to use.
+     * @param minChunk    The minimum chunk size in bytes.
+     */
+    public void loadObjectsFromCSVParallel(String filename, int parallelism, long minChunk) {
+        try {
+            new ParallelCsvLoader(parallelism, minChunk).load(filename, this);
+            System.out.println("Loaded space object data successfully.");
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the catalog from a binary snapshot when one exists for the current contents of
+     * the CSV file, and otherwise parses the CSV file and writes a fresh snapshot for the
+     * next start.
+     *
+     * @param filename     The name of the CSV file containing space object data.
+     * @param snapshotFile The name of the snapshot file to use.
+     */
+    public void loadCatalog(String filename, String snapshotFile) {
+        if (loadSnapshot(snapshotFile, filename)) {
+            System.out.println("Loaded space object data from snapshot.");
+            return;
+        }
+        loadObjectsFromCSVParallel(filename);
+        if (!objectById.isEmpty()) saveSnapshot(snapshotFile, filename);
+    }
+
+    /**
+     * Saves the current catalog as a binary snapshot tied to the given CSV file.
+     *
+     * @param snapshotFile The name of the snapshot file to write.
+     * @param filename     The name of the CSV file the catalog was loaded from.
+     * @return {@code true} if the snapshot was written.
+     */
+    public boolean saveSnapshot(String snapshotFile, String filename) {
+        try {
+            CatalogSnapshot.write(snapshotFile, filename, getColumnarCatalog());
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing snapshot: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Loads the catalog from a binary snapshot if it was built from the current version of
+     * the given CSV file. Snapshots that are missing, stale or fail their checksum are ignored.
+     *
+     * @param snapshotFile The name of the snapshot file to read.
+     * @param filename     The name of the CSV file the snapshot must match.
+     * @return {@code true} if the catalog was loaded from the snapshot.
+     */
+    public boolean loadSnapshot(String snapshotFile, String filename) {
+        try {
+            return CatalogSnapshot.read(snapshotFile, filename, this);
+        } catch (IOException e) {
+            System.err.println("Error reading snapshot: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Brings the catalog up to date with a CSV file without rebuilding it. If the file is the
+     * last one ingested and has only grown, just the appended rows are read and added.
+     * Otherwise the whole file is compared with the catalog by record ID and row hash. Either
+     * way only inserted, changed and deleted rows touch the catalog; deletions are only
+     * detected by a full comparison.
+     *
+     * <p>A record ID that occurs several times in the file is matched occurrence by
+     * occurrence against the objects loaded with that ID and object type, in load order, so
+     * an unchanged file with duplicate or empty IDs reports no changes. A row whose type has
+     * no object left to match takes the first unmatched object with its ID, which turns a
+     * change of object type into an update.</p>
+     *
+     * @param filename The name of the CSV file containing space object data.
+     * @return The number of objects inserted, updated or deleted.
+     */
+    public int refreshFromCSV(String filename) {
+        boolean tail = ingest != null && ingest.canTail(filename);
+        CatalogChanges changes = new CatalogChanges();
+        try (InputStream in = new FileInputStream(filename)) {
+            Map<String, Integer> header;
+            CsvReader csv;
+            if (tail) {
+                header = ingest.header();
+                in.skipNBytes(ingest.length());
+                csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } else {
+                csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                if (!csv.next()) {
+                    System.err.println("CSV file is empty: " + filename);
+                    return 0;
                 }
+                header = indexHeader(csv);
+            }
 
-                String objectType = row.get("object_type");
+            RowBinder binder = SpaceObjectFactory.bind(header);
+            // Appended rows are always new occurrences, so only a full comparison matches rows.
+            Map<String, List<SpaceObject>> byId = tail ? Collections.emptyMap() : objectsByRecordId();
+            Map<String, int[]> cursors = new HashMap<>();
+            Set<SpaceObject> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+            while (csv.next()) {
+                String objectType = binder.objectType(csv);
                 if (objectType == null || objectType.isEmpty()) {
-                    System.out.println("Skipping row: missing object_type");
+                    // Rows the loader skipped never count as an occurrence of their ID.
+                    createObject(binder, csv, objectType);
                     continue;
                 }
+                String recordId = binder.recordId(csv);
+                long hash = csv.recordHash();
+                SpaceObject existing = null;
+                List<SpaceObject> candidates = byId.get(recordId);
+                if (candidates != null) {
+                    String type = objectType.toUpperCase();
+                    existing = nextUnmatched(candidates, matched, cursors, recordId + '\0' + type, type);
+                    if (existing == null) existing = nextUnmatched(candidates, matched, cursors, recordId, null);
+                }
+                if (existing != null) matched.add(existing);
+                Long knownHash = existing == null ? null : rowHashes.get(existing);
+                if (knownHash != null && knownHash == hash) continue;
+
+                SpaceObject obj = createObject(binder, csv, objectType);
+                if (obj == null) continue;
+                if (existing == null) {
+                    addObject(objectType, obj, hash);
+                    changes.inserted++;
+                } else if (knownHash != null || !sameAttributes(existing, obj)) {
+                    changes.replace(existing, obj, objectType.toUpperCase(), hash);
+                } else {
+                    rowHashes.put(existing, hash);
+                }
+            }
+            for (List<SpaceObject> objects : byId.values()) {
+                for (SpaceObject obj : objects) {
+                    if (!matched.contains(obj)) changes.delete(obj);
+                }
+            }
+            applyChanges(changes);
+            ingest = IngestState.capture(filename, header);
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e.getMessage());
+        }
+
+        System.out.printf("Catalog refreshed (%s): %d inserted, %d updated, %d deleted.%n",
+                tail ? "appended rows" : "full comparison", changes.inserted,
+                changes.replacements.size(), changes.deletions.size());
+        return changes.inserted + changes.replacements.size() + changes.deletions.size();
+    }
 
-                try {
-                    SpaceObject obj = SpaceObjectFactory.getFactory(objectType).create(row);
-                    objectTypeMap.computeIfAbsent(objectType.toUpperCase(), k -> new ArrayList<>()).add(obj);
-                    objectById.put(obj.getRecordId(), obj);
+    /**
+     * Applies batched replacements and deletions in one pass over the type lists. Replaced
+     * objects keep their position when their type is unchanged.
+     */
+    private void applyChanges(CatalogChanges changes) {
+        if (changes.replacements.isEmpty() && changes.deletions.isEmpty()) return;
 
-                    // Optional debug:
-                    if (obj.getRecordId() == null) {
-                        System.err.println("⚠️ Object created without record_id! Check factory parsing.");
+        Map<String, List<SpaceObject>> moved = new HashMap<>();
+        Set<String> unindexed = new HashSet<>();
+        for (Map.Entry<String, List<SpaceObject>> entry : objectTypeMap.entrySet()) {
+            List<SpaceObject> kept = new ArrayList<>(entry.getValue().size());
+            for (SpaceObject obj : entry.getValue()) {
+                SpaceObject replacement = changes.replacements.get(obj);
+                if (changes.deletions.contains(obj)) {
+                    if (objectById.get(obj.getRecordId()) == obj) {
+                        objectById.remove(obj.getRecordId());
+                        unindexed.add(obj.getRecordId());
                     }
-                } catch (Exception e) {
-                    System.err.println("Error processing row: " + Arrays.toString(values));
-                    e.printStackTrace();
+                    rowHashes.remove(obj);
+                    tracked.remove(obj);
+                    for (CatalogListener listener : listeners) listener.objectRemoved(obj);
+                } else if (replacement == null) {
+                    kept.add(obj);
+                } else {
+                    String type = changes.replacementTypes.get(obj);
+                    replacement.setObjectType(type);
+                    if (type.equals(entry.getKey())) kept.add(replacement);
+                    else moved.computeIfAbsent(type, k -> new ArrayList<>()).add(replacement);
+                    if (objectById.get(obj.getRecordId()) == obj) objectById.put(replacement.getRecordId(), replacement);
+                    rowHashes.remove(obj);
+                    rowHashes.put(replacement, changes.replacementHashes.get(obj));
+                    tracked.remove(obj);
+                    tracked.add(replacement);
+                    for (CatalogListener listener : listeners) listener.objectReplaced(obj, replacement);
                 }
             }
+            entry.setValue(kept);
+        }
+        for (Map.Entry<String, List<SpaceObject>> entry : moved.entrySet()) {
+            objectTypeMap.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+        }
+        objectTypeMap.values().removeIf(List::isEmpty);
+        // A deleted indexed object may leave other objects with its record ID behind.
+        reindex(unindexed);
+        modCount++;
+    }
 
-            System.out.println("Loaded space object data successfully.");
-        } catch (IOException e) {
-            System.err.println("Error reading file: " + e.getMessage());
+    /**
+     * Points each given record ID back at the last tracked object in catalog order that
+     * still carries it, after the object it pointed at was removed or renamed.
+     */
+    private void reindex(Set<String> recordIds) {
+        if (recordIds.isEmpty()) return;
+        for (String type : catalogTypes()) {
+            for (SpaceObject obj : objectTypeMap.get(type)) {
+                if (recordIds.contains(obj.getRecordId())) objectById.put(obj.getRecordId(), obj);
+            }
+        }
+    }
+
+    /**
+     * Groups the tracked objects by record ID, each group in catalog order.
+     */
+    private Map<String, List<SpaceObject>> objectsByRecordId() {
+        Map<String, List<SpaceObject>> byId = new HashMap<>();
+        for (String type : catalogTypes()) {
+            for (SpaceObject obj : objectTypeMap.get(type)) {
+                byId.computeIfAbsent(obj.getRecordId(), k -> new ArrayList<>(1)).add(obj);
+            }
+        }
+        return byId;
+    }
+
+    /**
+     * Finds the first object of a record ID group that is not matched yet, optionally of one
+     * object type. The cursor under {@code key} remembers where the previous search stopped,
+     * so every cursor passes over a group once.
+     */
+    private static SpaceObject nextUnmatched(List<SpaceObject> group, Set<SpaceObject> matched,
+                                             Map<String, int[]> cursors, String key, String type) {
+        int[] cursor = cursors.computeIfAbsent(key, k -> new int[1]);
+        while (cursor[0] < group.size()) {
+            SpaceObject obj = group.get(cursor[0]);
+            if (!matched.contains(obj) && (type == null || type.equals(obj.getObjectType()))) return obj;
+            cursor[0]++;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether two space objects carry the same attribute values.
+     */
+    private static boolean sameAttributes(SpaceObject a, SpaceObject b) {
+        return a.getClass() == b.getClass()
+                && Objects.equals(a.getRecordId(), b.getRecordId())
+                && Objects.equals(a.getSatelliteName(), b.getSatelliteName())
+                && Objects.equals(a.getCountry(), b.getCountry())
+                && Objects.equals(a.getOrbitType(), b.getOrbitType())
+                && a.getLaunchYear() == b.getLaunchYear()
+                && Objects.equals(a.getLaunchSite(), b.getLaunchSite())
+                && a.getLongitude() == b.getLongitude()
+                && a.getAvgLongitude() == b.getAvgLongitude()
+                && Objects.equals(a.getGeohash(), b.getGeohash())
+                && a.getDaysOld() == b.getDaysOld()
+                && a.getConjunctionCount() == b.getConjunctionCount()
+                && a.isNominated() == b.isNominated()
+                && a.hasDossier() == b.hasDossier()
+                && a.isUnkObject() == b.isUnkObject();
+    }
+
+    /**
+     * The updates and deletions collected during a refresh, keyed by object identity.
+     */
+    private static class CatalogChanges {
+        int inserted;
+        final Map<SpaceObject, SpaceObject> replacements = new IdentityHashMap<>();
+        final Map<SpaceObject, String> replacementTypes = new IdentityHashMap<>();
+        final Map<SpaceObject, Long> replacementHashes = new IdentityHashMap<>();
+        final Set<SpaceObject> deletions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        void replace(SpaceObject existing, SpaceObject replacement, String objectType, long rowHash) {
+            replacements.put(existing, replacement);
+            replacementTypes.put(existing, objectType);
+            replacementHashes.put(existing, rowHash);
+        }
+
+        void delete(SpaceObject obj) {
+            deletions.add(obj);
+        }
+    }
+
+    /**
+     * Creates a space object from the current CSV record, reporting records that cannot be used.
+     *
+     * @param binder     The row binder compiled for the file's header.
+     * @param csv        A reader positioned on the record to convert.
+     * @param objectType The value of the record's {@code object_type} column.
+     * @return The new space object, or {@code null} if the record was skipped.
+     */
+    static SpaceObject createObject(RowBinder binder, CsvReader csv, String objectType) {
+        if (objectType == null || objectType.isEmpty()) {
+            System.out.println("Skipping row: missing object_type");
+            return null;
+        }
+
+        try {
+            SpaceObject obj = binder.create(csv, objectType);
+
+            // Optional debug:
+            if (obj.getRecordId() == null) {
+                System.err.println("⚠️ Object created without record_id! Check factory parsing.");
+            }
+            return obj;
+        } catch (Exception e) {
+            System.err.println("Error processing row: " + csv);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Adds a space object to the type and record ID indexes.
+     *
+     * @param objectType The object type the space object is filed under.
+     * @param obj        The space object to add.
+     */
+    void addObject(String objectType, SpaceObject obj) {
+        String type = objectType.toUpperCase();
+        obj.setObjectType(type);
+        objectTypeMap.computeIfAbsent(type, k -> new ArrayList<>()).add(obj);
+        objectById.put(obj.getRecordId(), obj);
+        tracked.add(obj);
+        modCount++;
+        for (CatalogListener listener : listeners) listener.objectAdded(obj);
+    }
+
+    /**
+     * Changes a tracked object in place and brings indexes, views and listeners up to date.
+     * Listeners see the object removed with its old attributes and added with its new ones.
+     * The change must not alter the object type. The object no longer matches its CSV row
+     * hash, so the next refresh compares it attribute by attribute. Objects that share their
+     * record ID with another object, or have an empty one, can be updated like any other.
+     *
+     * @param obj    A tracked space object.
+     * @param change The modification to apply, typically calling setters on the object.
+     * @throws IllegalArgumentException If the object is not tracked by this system.
+     */
+    public void updateObject(SpaceObject obj, Consumer<? super SpaceObject> change) {
+        if (!tracked.contains(obj)) {
+            throw new IllegalArgumentException("Object is not tracked: " + obj.getRecordId());
+        }
+        String recordId = obj.getRecordId();
+        boolean indexed = objectById.get(recordId) == obj;
+        for (CatalogListener listener : listeners) listener.objectRemoved(obj);
+        rowHashes.remove(obj);
+        change.accept(obj);
+        if (!Objects.equals(recordId, obj.getRecordId())) {
+            if (indexed) {
+                objectById.remove(recordId);
+                reindex(Collections.singleton(recordId));
+            }
+            if (objectById.get(obj.getRecordId()) == null) objectById.put(obj.getRecordId(), obj);
+        }
+        modCount++;
+        for (CatalogListener listener : listeners) listener.objectAdded(obj);
+    }
+
+    /**
+     * Reports every tracked object to a new listener as added, in catalog order. Objects are
+     * taken from the type lists, like the catalog itself, so objects sharing a record ID are
+     * all reported.
+     */
+    private void seed(CatalogListener listener) {
+        for (String type : catalogTypes()) {
+            for (SpaceObject obj : objectTypeMap.get(type)) listener.objectAdded(obj);
+        }
+    }
+
+    /**
+     * Registers a listener to be notified of every later change to the tracked objects.
+     *
+     * @param listener The listener to add.
+     */
+    public void addCatalogListener(CatalogListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeCatalogListener(CatalogListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Registers a materialized view of the objects that satisfy a definition. The view is
+     * filled from the current catalog once and then maintained on every insert, update and
+     * delete. Registering a name that is already taken returns the existing view.
+     *
+     * @param name       The view name.
+     * @param definition The condition objects must satisfy to be in the view.
+     * @return The registered view.
+     */
+    public CatalogView registerView(String name, Predicate<? super SpaceObject> definition) {
+        CatalogView view = views.get(name);
+        if (view != null) return view;
+        view = new CatalogView(name, definition);
+        seed(view);
+        views.put(name, view);
+        listeners.add(view);
+        return view;
+    }
+
+    /**
+     * Gets a registered view.
+     *
+     * @param name The view name.
+     * @return The view, or {@code null} if no view is registered under the name.
+     */
+    public CatalogView getView(String name) {
+        return views.get(name);
+    }
+
+    /**
+     * Unregisters a view so it is no longer maintained.
+     *
+     * @param name The view name.
+     */
+    public void removeView(String name) {
+        CatalogView view = views.remove(name);
+        if (view != null) listeners.remove(view);
+    }
+
+    /**
+     * Registers a ranking of every tracked object in an order. The ranking is filled from the
+     * current catalog once and then maintained on every insert, update and delete.
+     * Registering a name that is already taken returns the existing ranking.
+     *
+     * @param name  The ranking name.
+     * @param order The ranking order; the first objects in this order rank highest.
+     * @return The registered ranking.
+     */
+    public CatalogRanking registerRanking(String name, Comparator<? super SpaceObject> order) {
+        CatalogRanking ranking = rankings.get(name);
+        if (ranking != null) return ranking;
+        ranking = new CatalogRanking(name, order);
+        seed(ranking);
+        rankings.put(name, ranking);
+        listeners.add(ranking);
+        return ranking;
+    }
+
+    /**
+     * Gets a registered ranking.
+     *
+     * @param name The ranking name.
+     * @return The ranking, or {@code null} if no ranking is registered under the name.
+     */
+    public CatalogRanking getRanking(String name) {
+        return rankings.get(name);
+    }
+
+    /**
+     * Unregisters a ranking so it is no longer maintained.
+     *
+     * @param name The ranking name.
+     */
+    public void removeRanking(String name) {
+        CatalogRanking ranking = rankings.remove(name);
+        if (ranking != null) listeners.remove(ranking);
+    }
+
+    /**
+     * Gets the aggregate cube of the tracked objects by country, orbit type and object type.
+     * The cube is filled from the current catalog on first use and then maintained on every
+     * insert, update and delete.
+     *
+     * @return The aggregate cube.
+     */
+    public AggregateCube getAggregateCube() {
+        if (aggregateCube == null) {
+            aggregateCube = new AggregateCube();
+            seed(aggregateCube);
+            listeners.add(aggregateCube);
         }
+        return aggregateCube;
     }
 
+    /**
+     * Assesses the tracked debris by the built-in risk models, in catalog order. The
+     * assessment is kept between calls, so only debris that was added or modified since the
+     * previous call is reassessed. The debris is taken straight from the type map, so an
+     * assessment after a few changes does not rebuild the columnar catalog.
+     *
+     * @return The up-to-date debris assessment.
+     */
+    public DebrisAssessment assessDebris() {
+        if (debrisAssessment == null) {
+            debrisAssessment = new DebrisAssessment(Debris::meetsInOrbitCriteria, new RiskPipeline(RiskModels.all()));
+        }
+        debrisAssessment.assess(getObjectsByType("DEBRIS").stream().map(Debris.class::cast).toList());
+        return debrisAssessment;
+    }
+
+    /**
+     * Adds a space object loaded from a CSV row and remembers the row's hash so later
+     * refreshes can skip unchanged rows.
+     *
+     * @param objectType The object type the space object is filed under.
+     * @param obj        The space object to add.
+     * @param rowHash    The hash of the CSV row the object was created from.
+     */
+    void addObject(String objectType, SpaceObject obj, long rowHash) {
+        addObject(objectType, obj);
+        rowHashes.put(obj, rowHash);
+    }
 
     /**
-     * Retrieves a list of space objects by their type.
+     * Records that a CSV file has been ingested completely, enabling appended-row refreshes.
+     *
+     * @param filename The ingested CSV file.
+     * @param header   The header mapping used to read it.
+     */
+    void recordIngest(String filename, Map<String, Integer> header) {
+        ingest = IngestState.capture(filename, header);
+    }
+
+    /**
+     * Gets a columnar snapshot of the catalog for scans and aggregations. The snapshot is
+     * rebuilt on first use after the tracked objects change. Rows are ordered by object type
+     * (debris, payloads, rocket bodies, unknown objects, then any other types) and by load
+     * order within a type.
+     *
+     * @return The columnar catalog.
+     */
+    public ColumnarCatalog getColumnarCatalog() {
+        if (columnarVersion != modCount) {
+            List<SpaceObject> objects = new ArrayList<>(objectById.size());
+            for (String type : catalogTypes()) {
+                objects.addAll(objectTypeMap.get(type));
+            }
+            columnarCatalog = new ColumnarCatalog(objects);
+            columnarVersion = modCount;
+        }
+        return columnarCatalog;
+    }
+
+    /**
+     * Checks whether the columnar catalog reflects the tracked objects, so that
+     * {@link #getColumnarCatalog()} and the indexes built on it are served without a rebuild.
+     *
+     * @return {@code true} if the columnar catalog is up to date.
+     */
+    public boolean isColumnarCatalogCurrent() {
+        return columnarCatalog != null && columnarVersion == modCount;
+    }
+
+    /**
+     * Counts the tracked objects, including objects that share a record ID.
+     *
+     * @return The number of rows the columnar catalog has or would have.
+     */
+    int objectCount() {
+        int count = 0;
+        for (List<SpaceObject> objects : objectTypeMap.values()) count += objects.size();
+        return count;
+    }
+
+    /**
+     * Streams the tracked objects in catalog order straight from the type lists, without
+     * building the columnar catalog.
+     *
+     * @return The tracked objects, in the row order of {@link #getColumnarCatalog()}.
+     */
+    Stream<SpaceObject> streamObjects() {
+        return catalogTypes().stream().flatMap(type -> objectTypeMap.get(type).stream());
+    }
+
+    /**
+     * Starts a query over the tracked objects. The query picks the cheapest index for its
+     * conditions when it runs.
+     *
+     * @return A new query matching every tracked object.
+     */
+    public CatalogQuery query() {
+        return new CatalogQuery(this);
+    }
+
+    /**
+     * Finds objects with a lasting impact on an orbit regime: objects in the given orbit type
+     * that are older than {@code minDaysOld} days and have more than {@code minConjunctions}
+     * conjunctions.
+     *
+     * @param orbitType       The orbit type, e.g. "LEO"; matched case-insensitively.
+     * @param minDaysOld      The exclusive lower bound on {@code days_old}.
+     * @param minConjunctions The exclusive lower bound on {@code conjunction_count}.
+     * @return The matching objects, in catalog order.
+     */
+    public List<SpaceObject> findLongTermImpactObjects(String orbitType, int minDaysOld, long minConjunctions) {
+        return query().orbitType(orbitType).olderThan(minDaysOld).conjunctionsAbove(minConjunctions).list();
+    }
+
+    /**
+     * Gets the sorted longitude index of the catalog, rebuilding it along with the columnar
+     * catalog after the tracked objects change.
+     *
+     * @return The longitude index.
+     */
+    public LongitudeIndex getLongitudeIndex() {
+        ColumnarCatalog catalog = getColumnarCatalog();
+        if (longitudeIndex == null || longitudeIndex.catalog() != catalog) {
+            longitudeIndex = new LongitudeIndex(catalog);
+        }
+        return longitudeIndex;
+    }
+
+    /**
+     * Finds all objects whose longitude lies in the given range using the longitude index.
+     *
+     * @param minLongitude The inclusive lower bound.
+     * @param maxLongitude The inclusive upper bound.
+     * @return The matching objects, in ascending order of longitude.
+     */
+    public List<SpaceObject> findInLongitudeRange(double minLongitude, double maxLongitude) {
+        return getLongitudeIndex().objects(minLongitude, maxLongitude);
+    }
+
+    /**
+     * Finds the objects with the most conjunctions, selected with bounded heaps over the
+     * columnar catalog instead of a full sort.
+     *
+     * @param k The number of objects to return.
+     * @return At most {@code k} objects, most conjunctions first; ties in catalog order.
+     */
+    public List<SpaceObject> topByConjunctions(int k) {
+        ColumnarCatalog catalog = getColumnarCatalog();
+        return objects(catalog, TopK.rows(catalog, k, catalog::conjunctionCount));
+    }
+
+    /**
+     * Finds the objects that have drifted furthest from their average longitude, selected
+     * with bounded heaps over the columnar catalog instead of a full sort.
+     *
+     * @param k The number of objects to return.
+     * @return At most {@code k} objects, largest drift first; ties in catalog order.
+     * @see SpaceObject#getLongitudeDrift()
+     */
+    public List<SpaceObject> topByDrift(int k) {
+        ColumnarCatalog catalog = getColumnarCatalog();
+        return objects(catalog, TopK.rows(catalog, k, row -> Math.abs(catalog.longitude(row) - catalog.avgLongitude(row))));
+    }
+
+    /**
+     * Screens the whole catalog for close approaches and stores each screened object's number
+     * of conjunctions as its conjunction count. Changed objects go through
+     * {@link #updateObject}, so views, rankings and aggregates follow. Objects without a
+     * decodable position keep their count.
+     *
+     * @param distance The screening distance in degrees.
+     * @return The number of objects whose conjunction count changed.
+     * @see ConjunctionScreener
+     */
+    public int screenConjunctions(double distance) {
+        ColumnarCatalog catalog = getColumnarCatalog();
+        int[] counts = new ConjunctionScreener(catalog, distance).counts();
+        int changed = 0;
+        for (int row = 0; row < counts.length; row++) {
+            int count = counts[row];
+            if (count < 0 || catalog.conjunctionCount(row) == count) continue;
+            updateObject(catalog.object(row), obj -> obj.setConjunctionCount(count));
+            changed++;
+        }
+        return changed;
+    }
+
+    private static List<SpaceObject> objects(ColumnarCatalog catalog, int[] rows) {
+        List<SpaceObject> result = new ArrayList<>(rows.length);
+        for (int row : rows) result.add(catalog.object(row));
+        return result;
+    }
+
+    /**
+     * Counts the objects whose longitude lies in the given range without listing them.
+     *
+     * @param minLongitude The inclusive lower bound.
+     * @param maxLongitude The inclusive upper bound.
+     * @return The number of objects in range.
+     */
+    public int countInLongitudeRange(double minLongitude, double maxLongitude) {
+        return getLongitudeIndex().count(minLongitude, maxLongitude);
+    }
+
+    /**
+     * Gets the bitmap indexes of the catalog for multi-attribute filtering, rebuilding them
+     * along with the columnar catalog after the tracked objects change. Row numbers in the
+     * bitmaps are rows of {@link #getColumnarCatalog()}.
+     *
+     * @return The bitmap indexes.
+     */
+    public BitmapIndex getBitmapIndex() {
+        ColumnarCatalog catalog = getColumnarCatalog();
+        if (bitmapIndex == null || bitmapIndex.catalog() != catalog) {
+            bitmapIndex = new BitmapIndex(catalog);
+        }
+        return bitmapIndex;
+    }
+
+    /**
+     * Gets the Z-order index of decoded object positions, rebuilding it along with the
+     * columnar catalog after the tracked objects change.
+     *
+     * @return The geographic index.
+     */
+    public GeoIndex getGeoIndex() {
+        ColumnarCatalog catalog = getColumnarCatalog();
+        if (geoIndex == null || geoIndex.catalog() != catalog) {
+            geoIndex = new GeoIndex(catalog);
+        }
+        return geoIndex;
+    }
+
+    /**
+     * Finds all objects whose decoded position lies in a bounding box.
+     *
+     * @param minLatitude  The inclusive southern bound.
+     * @param minLongitude The inclusive western bound.
+     * @param maxLatitude  The inclusive northern bound.
+     * @param maxLongitude The inclusive eastern bound.
+     * @return The matching objects, in Z order.
+     */
+    public List<SpaceObject> findInRegion(double minLatitude, double minLongitude,
+                                          double maxLatitude, double maxLongitude) {
+        return getGeoIndex().objects(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    /**
+     * Counts the objects whose decoded position lies in a bounding box without listing them.
+     *
+     * @param minLatitude  The inclusive southern bound.
+     * @param minLongitude The inclusive western bound.
+     * @param maxLatitude  The inclusive northern bound.
+     * @param maxLongitude The inclusive eastern bound.
+     * @return The number of objects in the box.
+     */
+    public int countInRegion(double minLatitude, double minLongitude,
+                             double maxLatitude, double maxLongitude) {
+        return getGeoIndex().count(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    /**
+     * Finds all objects positioned in the same cell as the given geohash.
+     *
+     * @param geohash A {@code "lat,lon"} pair or base32 geohash.
+     * @param level   The cell level, from {@code 0} (the whole globe) to {@link GeoCell#LEVELS};
+     *                each level halves the cell in both directions.
+     * @return The matching objects, or an empty list if the geohash cannot be decoded.
+     */
+    public List<SpaceObject> findInSameCell(String geohash, int level) {
+        return getGeoIndex().objectsInCell(GeoCell.parse(geohash), level);
+    }
+
+    /**
+     * Gets the object types present in the catalog, with the standard types first.
+     *
+     * @return The object type keys in catalog order.
+     */
+    private List<String> catalogTypes() {
+        List<String> types = new ArrayList<>();
+        for (String type : new String[]{"DEBRIS", "PAYLOAD", "ROCKET BODY", "UNKNOWN"}) {
+            if (objectTypeMap.containsKey(type)) types.add(type);
+        }
+        List<String> others = new ArrayList<>(objectTypeMap.keySet());
+        others.removeAll(types);
+        Collections.sort(others);
+        types.addAll(others);
+        return types;
+    }
+
+    /**
+     * Builds a map from normalized column names to column indexes using the current record
+     * of the given reader as the header.
+     *
+     * @param csv A reader positioned on the header record.
+     * @return The header index map.
+     */
+    static Map<String, Integer> indexHeader(CsvReader csv) {
+        Map<String, Integer> headerMap = new HashMap<>();
+        for (int i = 0; i < csv.fieldCount(); i++) {
+            headerMap.put(normalizeHeader(csv.field(i)), i);
+        }
+        return headerMap;
+    }
+
+    /**
+     * Normalizes a CSV header name (remove ?, quotes, normalize underscores).
+     *
+     * @param header The raw header name.
+     * @return The normalized, lower-case column key.
+     */
+    public static String normalizeHeader(String header) {
+        return header.trim().toLowerCase()
+            .replace("?", "")
+            .replace("\"", "")
+            .replace(" ", "_")
+            .replaceAll("[^a-z0-9_]", "");
+    }
+
+
+    /**
+     * Retrieves a list of space objects by their type. The list is a read-only view, so no
+     * copy is made; use {@link #query()} to filter or page through large results lazily.
      *
      * @param type The type of space objects to retrieve (e.g., "DEBRIS", "PAYLOAD").
-     * @return A list of space objects of the specified type, or an empty list if none exist.
+     * @return A read-only list of space objects of the specified type, or an empty list if none exist.
      */
     public List<SpaceObject> getObjectsByType(String type) {
-        return objectTypeMap.getOrDefault(type.toUpperCase(), new ArrayList<>());
+        List<SpaceObject> objects = objectTypeMap.get(type.toUpperCase());
+        return objects == null ? Collections.emptyList() : Collections.unmodifiableList(objects);
     }
 
     /**
@@ -103,27 +910,48 @@ public class TrackingSystem {
         return objectById.get(recordId);
     }
 
+    /**
+     * Retrieves a space object by its numeric record ID, such as a NORAD catalog number,
+     * without converting the ID to a string.
+     *
+     * @param recordId The numeric record ID of the space object.
+     * @return The space object whose record ID is the decimal form of {@code recordId}, or
+     *         {@code null} if not found.
+     */
+    public SpaceObject getObjectById(long recordId) {
+        return objectById.get(recordId);
+    }
+
+    /**
+     * Parses an {@code int} field without throwing.
+     *
+     * @param val          The text to parse; may be {@code null} or blank.
+     * @param defaultValue The value returned when {@code val} is not a valid {@code int}.
+     * @return The parsed value, or {@code defaultValue}.
+     */
     public static int parseIntSafe(String val, int defaultValue) {
-        try {
-            return Integer.parseInt(val.trim());
-        } catch (Exception e) {
-            return defaultValue;
-        }
+        return FieldParser.parseInt(val, defaultValue);
     }
 
+    /**
+     * Parses a {@code long} field without throwing.
+     *
+     * @param val          The text to parse; may be {@code null} or blank.
+     * @param defaultValue The value returned when {@code val} is not a valid {@code long}.
+     * @return The parsed value, or {@code defaultValue}.
+     */
     public static long parseLongSafe(String val, long defaultValue) {
-        try {
-            return Long.parseLong(val.trim());
-        } catch (Exception e) {
-            return defaultValue;
-        }
+        return FieldParser.parseLong(val, defaultValue);
     }
 
+    /**
+     * Parses a {@code double} field without throwing.
+     *
+     * @param val          The text to parse; may be {@code null} or blank.
+     * @param defaultValue The value returned when {@code val} is not a valid decimal number.
+     * @return The parsed value, or {@code defaultValue}.
+     */
     public static double parseDoubleSafe(String val, double defaultValue) {
-        try {
-            return Double.parseDouble(val.trim());
-        } catch (Exception e) {
-            return defaultValue;
-        }
+        return FieldParser.parseDouble(val, defaultValue);
     }
 }
@@ -18,7 +18,7 @@ public class RunSimulation {
 
     public static void main(String[] args) {
         TrackingSystem trackingSystem = new TrackingSystem();
-        trackingSystem.loadObjectsFromCSV("rso_metrics.csv");
+        trackingSystem.loadCatalog("rso_metrics.csv", "rso_metrics.snapshot");
 
         while (true) {
             String input = displayMainMenu();
@@ -53,7 +53,7 @@ public class RunSimulation {
                     case 3 -> {
                         try {
                             if (UserAuthenticator.login("Space Agency Representative"))
-                                new SpaceAgencyMenu().showMenu();
+                                new SpaceAgencyMenu(trackingSystem).showMenu();
                         } catch (AuthenticationException e) {
                             System.out.println("[Login Failed] " + e.getMessage());
                         }
@@ -61,7 +61,7 @@ public class RunSimulation {
                     case 4 -> {
                         try {
                             if (UserAuthenticator.login("Policymaker"))
-                                new PolicymakerMenu().showMenu();
+                                new PolicymakerMenu(trackingSystem).showMenu();
                         } catch (AuthenticationException e) {
                             System.out.println("[Login Failed] " + e.getMessage());
                         }
@@ -89,7 +89,7 @@ public class RunSimulation {
         try (PrintWriter out = new PrintWriter("debris_tracking_report.csv")) {
             out.println("RecordID,SatelliteName,Country,OrbitType,LaunchYear,LaunchSite,Longitude,AvgLongitude,Geohash,DaysOld,ConjunctionCount,StillInOrbit,RiskLevel");
 
-            for (SpaceObject obj : trackingSystem.getObjectsByType("DEBRIS")) {
+            for (SpaceObject obj : trackingSystem.query().objectType("DEBRIS").list()) {
                 if (obj instanceof Debris d) {
                     out.printf("%s,%s,%s,%s,%d,%s,%.2f,%.2f,%s,%d,%d,%b,%s%n",
                             d.getRecordId(), d.getSatelliteName(), d.getCountry(), d.getOrbitType(),
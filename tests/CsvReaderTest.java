@@ -0,0 +1,48 @@
+package tests;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.CsvReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+public class CsvReaderTest {
+
+    // Quoted geohash values must stay in one column
+    @Test
+    public void testQuotedFieldWithComma() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("10096,\"62.925556,40.577778\",,17390\n"));
+        assertTrue(csv.next());
+        assertEquals(4, csv.fieldCount());
+        assertEquals("10096", csv.field(0));
+        assertEquals("62.925556,40.577778", csv.field(1));
+        assertTrue(csv.isEmpty(2));
+        assertEquals("17390", csv.field(3));
+        assertFalse(csv.next());
+    }
+
+    @Test
+    public void testEscapedQuotesAndEmbeddedNewline() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a,\"say \"\"hi\"\"\",\"two\nlines\"\r\nb,c,d"));
+        assertTrue(csv.next());
+        assertEquals("say \"hi\"", csv.field(1));
+        assertEquals("two\nlines", csv.field(2));
+        assertTrue(csv.next());
+        assertEquals("b", csv.field(0));
+        assertEquals("d", csv.field(2));
+        assertFalse(csv.next());
+    }
+
+    @Test
+    public void testByteOrderMarkAndBlankLines() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("\uFEFFrecord_id, name \n\n1,x\n"));
+        assertTrue(csv.next());
+        assertEquals("record_id", csv.field(0));
+        assertEquals("name", csv.field(1));
+        assertTrue(csv.next());
+        assertEquals("1", csv.field(0));
+        assertEquals("", csv.field(5), "Missing fields read as empty");
+        assertFalse(csv.next());
+    }
+}
@@ -0,0 +1,66 @@
+package tests;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.Debris;
+import model.RecordIdIndex;
+import model.SpaceObject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class RecordIdIndexTest {
+
+    private static SpaceObject object(String recordId) {
+        return new Debris(recordId, "Name", "US", "LEO", 2000, "AFETR", 0, 0, null, 0, 0);
+    }
+
+    // Numeric and non-numeric ids resolve to the same object they were stored under
+    @Test
+    public void testNumericAndStringIds() {
+        RecordIdIndex index = new RecordIdIndex();
+        SpaceObject numeric = object("10096");
+        SpaceObject padded = object("010096");
+        SpaceObject named = object("D123");
+        index.put("10096", numeric);
+        index.put("010096", padded);
+        index.put("D123", named);
+
+        assertSame(numeric, index.get("10096"));
+        assertSame(numeric, index.get(10096L));
+        assertSame(padded, index.get("010096"));
+        assertSame(named, index.get("D123"));
+        assertNull(index.get("10097"));
+        assertNull(index.get((String) null));
+        assertEquals(3, index.size());
+
+        assertSame(numeric, index.remove("10096"));
+        assertNull(index.get(10096L));
+        assertSame(padded, index.get("010096"));
+    }
+
+    // Random inserts, overwrites and removals behave like a HashMap
+    @Test
+    public void testMatchesHashMap() {
+        RecordIdIndex index = new RecordIdIndex();
+        Map<String, SpaceObject> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            String id = random.nextInt(10) == 0 ? "X" + random.nextInt(500) : String.valueOf(random.nextInt(5000));
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(id), index.remove(id));
+            } else {
+                SpaceObject obj = object(id);
+                assertSame(expected.put(id, obj), index.put(id, obj));
+            }
+        }
+        assertEquals(expected.size(), index.size());
+        for (Map.Entry<String, SpaceObject> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), index.get(entry.getKey()));
+        }
+        int[] visited = {0};
+        index.forEach(obj -> visited[0]++);
+        assertEquals(expected.size(), visited[0]);
+    }
+}
@@ -6,11 +6,50 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import factory.DebrisFactory;
+import factory.RowBinder;
 import factory.SpaceObjectFactory;
+import model.AggregateCube;
+import model.AggregateCube.Aggregate;
+import model.AggregateCube.Dimension;
+import model.BitmapIndex;
+import model.CatalogDictionaries;
+import model.CatalogCursor;
+import model.CatalogGenerator;
+import model.CatalogQuery;
+import model.CatalogRanking;
+import model.CatalogView;
+import model.ColumnarCatalog;
+import model.ConjunctionScreener;
+import model.CsvReader;
 import model.Debris;
+import model.DebrisAssessment;
+import model.DebrisAssessor;
+import model.DriftPropagator;
+import model.FieldParser;
+import model.GeoCell;
+import model.LongitudeIndex;
+import model.MissionRiskSimulator;
+import model.MissionRiskSimulator.RiskEstimate;
+import model.Payload;
+import model.RiskBatch;
+import model.RiskLevel;
+import model.RiskModel;
+import model.RiskModels;
+import model.RiskPipeline;
 import model.SpaceObject;
+import model.StringDictionary;
+import model.TopK;
 import model.TrackingSystem;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 public class SystemTest {
 
@@ -72,6 +111,1055 @@ public class SystemTest {
     }
 
 
+    // Parallel loader must build the same catalog as the sequential loader
+    @Test
+    public void testParallelLoadMatchesSequential() {
+        TrackingSystem parallel = new TrackingSystem();
+        parallel.loadObjectsFromCSVParallel("tests/test_rso_metrics.csv");
+
+        for (String type : new String[]{"DEBRIS", "PAYLOAD"}) {
+            List<SpaceObject> expected = trackingSystem.getObjectsByType(type);
+            List<SpaceObject> actual = parallel.getObjectsByType(type);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getRecordId(), actual.get(i).getRecordId());
+                assertEquals(expected.get(i).getLongitude(), actual.get(i).getLongitude());
+            }
+        }
+        assertNotNull(parallel.getObjectById("P456"));
+    }
+
+    // Small chunks split a catalog full of quoted line breaks exactly like the sequential reader
+    @Test
+    public void testParallelLoadAcrossChunkBoundaries() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        new CatalogGenerator(8).write(300, file);
+        List<String> lines = new ArrayList<>(Files.readAllLines(file));
+        for (int i = 1; i < lines.size(); i++) {
+            String name = i % 2 == 0 ? "\"$3\n\"\"PART " + i + "\"\"\"" : "\"\n$3\r\n\"";
+            lines.set(i, lines.get(i).replaceFirst("^([^,]*),([^,]*),([^,]*),", "$1,$2," + name + ","));
+        }
+        // The second pass adds a stray quote inside an unquoted field, which is literal to the
+        // reader but flips the quote parity used to place chunk boundaries.
+        for (int pass = 0; pass < 2; pass++) {
+            if (pass == 1) lines.set(150, lines.get(150).replaceFirst("^([^,]*),([^,]*),", "$1,$2,AB\"C "));
+            Files.write(file, lines);
+            TrackingSystem sequential = new TrackingSystem();
+            sequential.loadObjectsFromCSV(file.toString());
+            List<SpaceObject> expected = sequential.query().list();
+            assertEquals(300, expected.size());
+            for (int parallelism = 1; parallelism <= 8; parallelism++) {
+                TrackingSystem parallel = new TrackingSystem();
+                parallel.loadObjectsFromCSVParallel(file.toString(), parallelism, 1);
+                List<SpaceObject> actual = parallel.query().list();
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).getRecordId(), actual.get(i).getRecordId());
+                    assertEquals(expected.get(i).getSatelliteName(), actual.get(i).getSatelliteName());
+                    assertEquals(expected.get(i).getCountry(), actual.get(i).getCountry());
+                    assertEquals(expected.get(i).getLongitude(), actual.get(i).getLongitude());
+                }
+            }
+        }
+        Files.delete(file);
+    }
+
+    // Incremental refresh applies appended, changed and removed rows
+    @Test
+    public void testRefreshFromCSV() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        Files.write(file, lines);
+        TrackingSystem refreshed = new TrackingSystem();
+        refreshed.loadObjectsFromCSV(file.toString());
+        assertEquals(0, refreshed.refreshFromCSV(file.toString()));
+
+        Files.writeString(file, "D789,D789,DebrisTwo,USA,LEO,DEBRIS,2001,AFETR,10.0,11.0,geohash3,,,,,,,,100,0,,,,,\n",
+                StandardOpenOption.APPEND);
+        assertEquals(1, refreshed.refreshFromCSV(file.toString()));
+        assertEquals(2, refreshed.getObjectsByType("DEBRIS").size());
+
+        lines.set(1, lines.get(1).replace("DebrisOne", "DebrisRenamed"));
+        lines.remove(2);
+        Files.write(file, lines);
+        assertEquals(3, refreshed.refreshFromCSV(file.toString()));
+        assertEquals("DebrisRenamed", refreshed.getObjectById("D123").getSatelliteName());
+        assertNull(refreshed.getObjectById("P456"));
+        assertNull(refreshed.getObjectById("D789"));
+        Files.delete(file);
+    }
+
+    // Refreshing an unchanged file with duplicate or empty record ids changes nothing
+    @Test
+    public void testRefreshWithDuplicateIds() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        lines.add(lines.get(1).replace("DebrisOne", "DebrisOneAgain"));
+        lines.add(lines.get(2).replace("P456,P456,", ",,"));
+        lines.add(lines.get(2).replace("P456,P456,PayloadX", ",,PayloadY"));
+        lines.add(lines.get(1).replace("D123,D123,DebrisOne", ",,DebrisBlank"));
+        Files.write(file, lines);
+        TrackingSystem refreshed = new TrackingSystem();
+        refreshed.loadObjectsFromCSV(file.toString());
+        assertEquals(0, refreshed.refreshFromCSV(file.toString()));
+        assertEquals(6, refreshed.query().count());
+        assertEquals("DebrisOneAgain", refreshed.getObjectById("D123").getSatelliteName());
+        assertEquals("DebrisBlank", refreshed.getObjectById("").getSatelliteName());
+
+        lines.remove(6);
+        lines.set(1, lines.get(1).replace("DebrisOne", "DebrisRenamed"));
+        Files.write(file, lines);
+        assertEquals(2, refreshed.refreshFromCSV(file.toString()));
+        assertEquals(List.of("DebrisRenamed", "DebrisOneAgain"),
+                refreshed.getObjectsByType("DEBRIS").stream().map(SpaceObject::getSatelliteName).toList());
+        assertEquals("DebrisOneAgain", refreshed.getObjectById("D123").getSatelliteName());
+        assertEquals("PayloadY", refreshed.getObjectById("").getSatelliteName());
+        assertEquals(0, refreshed.refreshFromCSV(file.toString()));
+
+        lines.remove(3);
+        Files.write(file, lines);
+        assertEquals(1, refreshed.refreshFromCSV(file.toString()));
+        assertEquals("DebrisRenamed", refreshed.getObjectById("D123").getSatelliteName());
+        assertEquals(4, refreshed.query().count());
+        Files.delete(file);
+    }
+
+    // Snapshots round-trip the catalog and are rejected when corrupt or stale
+    @Test
+    public void testCatalogSnapshot() throws Exception {
+        Path csv = Files.createTempFile("rso", ".csv");
+        Path snapshot = Files.createTempFile("rso", ".snap");
+        new CatalogGenerator(4).write(2000, csv);
+        TrackingSystem original = new TrackingSystem();
+        original.loadObjectsFromCSV(csv.toString());
+        List<SpaceObject> objects = original.query().list();
+        original.updateObject(objects.get(0), o -> o.setNominated(true));
+        original.updateObject(objects.get(1), o -> { o.setHasDossier(true); o.setUnkObject(true); });
+        assertTrue(original.saveSnapshot(snapshot.toString(), csv.toString()));
+
+        TrackingSystem restored = new TrackingSystem();
+        assertTrue(restored.loadSnapshot(snapshot.toString(), csv.toString()));
+        List<SpaceObject> copies = restored.query().list();
+        assertEquals(objects.size(), copies.size());
+        for (int i = 0; i < objects.size(); i++) {
+            SpaceObject obj = objects.get(i), copy = copies.get(i);
+            assertEquals(obj.getClass(), copy.getClass());
+            assertEquals(obj.getRecordId(), copy.getRecordId());
+            assertEquals(obj.getSatelliteName(), copy.getSatelliteName());
+            assertEquals(obj.getCountry(), copy.getCountry());
+            assertEquals(obj.getOrbitType(), copy.getOrbitType());
+            assertEquals(obj.getObjectType(), copy.getObjectType());
+            assertEquals(obj.getLaunchYear(), copy.getLaunchYear());
+            assertEquals(obj.getLaunchSite(), copy.getLaunchSite());
+            assertEquals(obj.getLongitude(), copy.getLongitude());
+            assertEquals(obj.getAvgLongitude(), copy.getAvgLongitude());
+            assertEquals(obj.getGeohash(), copy.getGeohash());
+            assertEquals(obj.getDaysOld(), copy.getDaysOld());
+            assertEquals(obj.getConjunctionCount(), copy.getConjunctionCount());
+            assertEquals(obj.isNominated(), copy.isNominated());
+            assertEquals(obj.hasDossier(), copy.hasDossier());
+            assertEquals(obj.isUnkObject(), copy.isUnkObject());
+        }
+        assertTrue(copies.get(0).isNominated());
+        assertTrue(copies.get(1).hasDossier() && copies.get(1).isUnkObject());
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Path corrupt = Files.createTempFile("rso", ".snap");
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(corrupt, bytes);
+        TrackingSystem rejected = new TrackingSystem();
+        assertFalse(rejected.loadSnapshot(corrupt.toString(), csv.toString()));
+        assertEquals(0, rejected.query().count());
+
+        long modified = Files.getLastModifiedTime(csv).toMillis();
+        assertTrue(csv.toFile().setLastModified(modified + 2000));
+        rejected = new TrackingSystem();
+        assertFalse(rejected.loadSnapshot(snapshot.toString(), csv.toString()));
+        assertEquals(0, rejected.query().count());
+
+        assertTrue(csv.toFile().setLastModified(modified));
+        assertTrue(new TrackingSystem().loadSnapshot(snapshot.toString(), csv.toString()));
+        Files.writeString(csv, "\n", StandardOpenOption.APPEND);
+        assertTrue(csv.toFile().setLastModified(modified));
+        rejected = new TrackingSystem();
+        assertFalse(rejected.loadSnapshot(snapshot.toString(), csv.toString()));
+        assertEquals(0, rejected.query().count());
+
+        Files.delete(corrupt);
+        Files.delete(snapshot);
+        Files.delete(csv);
+    }
+
+    // Row binding follows the header, whatever its column order, gaps or extra columns
+    @Test
+    public void testRowBinderHeaderLayouts() throws Exception {
+        String text = " Country ,Record_ID,notes,object_type,longitude,satellite_name,is_nominated,days_old\n"
+                + "USA,D1,ignored,DEBRIS,12.5,Deb One,TRUE,400\n"
+                + "RUS,P2,short,PAYLOAD\n";
+        try (CsvReader csv = new CsvReader(new StringReader(text))) {
+            assertTrue(csv.next());
+            Map<String, Integer> header = new HashMap<>();
+            for (int i = 0; i < csv.fieldCount(); i++) header.put(TrackingSystem.normalizeHeader(csv.field(i)), i);
+            RowBinder binder = SpaceObjectFactory.bind(header);
+
+            assertTrue(csv.next());
+            assertEquals("D1", binder.recordId(csv));
+            SpaceObject debris = binder.create(csv, binder.objectType(csv));
+            assertInstanceOf(Debris.class, debris);
+            assertEquals("D1", debris.getRecordId());
+            assertEquals("Deb One", debris.getSatelliteName());
+            assertEquals("USA", debris.getCountry());
+            assertEquals(12.5, debris.getLongitude());
+            assertEquals(400, debris.getDaysOld());
+            assertTrue(debris.isNominated());
+            // Columns missing from the header bind as null or zero.
+            assertNull(debris.getOrbitType());
+            assertNull(debris.getLaunchSite());
+            assertEquals(0, debris.getLaunchYear());
+            assertEquals(0.0, debris.getAvgLongitude());
+            assertEquals(0, debris.getConjunctionCount());
+            assertFalse(debris.hasDossier());
+
+            // Columns missing from a short row bind as empty or zero.
+            assertTrue(csv.next());
+            SpaceObject payload = binder.create(csv, binder.objectType(csv));
+            assertInstanceOf(Payload.class, payload);
+            assertEquals("P2", payload.getRecordId());
+            assertEquals("", payload.getSatelliteName());
+            assertEquals(0.0, payload.getLongitude());
+            assertEquals(0, payload.getDaysOld());
+            assertFalse(payload.isNominated());
+            assertFalse(csv.next());
+        }
+
+        RowBinder unknown = SpaceObjectFactory.bind(Map.of("satellite_name", 0));
+        try (CsvReader csv = new CsvReader(new StringReader("Lone\n"))) {
+            assertTrue(csv.next());
+            assertNull(unknown.recordId(csv));
+            assertNull(unknown.objectType(csv));
+        }
+    }
+
+    // Folded codes match values that are equal ignoring case, in every dictionary
+    @Test
+    public void testDictionaryCaseFolding() {
+        StringDictionary dictionary = new StringDictionary();
+        int leo = dictionary.encode("Leo");
+        int upper = dictionary.encode("LEO");
+        int lower = dictionary.encode("leo");
+        int geo = dictionary.encode("GEO");
+        assertEquals(5, dictionary.size());
+        assertNotEquals(leo, upper);
+        assertNotEquals(upper, lower);
+        assertEquals(dictionary.foldedCode(leo), dictionary.foldedCode(upper));
+        assertEquals(dictionary.foldedCode(leo), dictionary.foldedCode(lower));
+        assertNotEquals(dictionary.foldedCode(leo), dictionary.foldedCode(geo));
+        assertEquals(dictionary.foldedCode(leo), dictionary.findIgnoreCase("lEO"));
+        assertEquals(-1, dictionary.find("lEO"));
+        assertEquals(-1, dictionary.findIgnoreCase("MEO"));
+        assertEquals(StringDictionary.NULL_CODE, dictionary.foldedCode(dictionary.encode(null)));
+        assertEquals(StringDictionary.NULL_CODE, dictionary.findIgnoreCase(null));
+
+        SpaceObject a = new Debris("F1", "Fold One", "Folded Land", "LEO", 2000, "AFETR", 0, 0, null, 0, 0);
+        SpaceObject b = new Debris("F2", "Fold Two", "FOLDED LAND", "LEO", 2000, "AFETR", 0, 0, null, 0, 0);
+        StringDictionary countries = CatalogDictionaries.COUNTRIES;
+        assertNotEquals(a.getCountryCode(), b.getCountryCode());
+        assertEquals(countries.foldedCode(a.getCountryCode()), countries.foldedCode(b.getCountryCode()));
+        assertEquals(countries.foldedCode(a.getCountryCode()), countries.findIgnoreCase("folded land"));
+        assertEquals("FOLDED LAND", b.getCountry());
+    }
+
+    // Threads encoding the same values concurrently agree on every code
+    @Test
+    public void testDictionaryConcurrentEncode() throws Exception {
+        StringDictionary dictionary = new StringDictionary();
+        int threads = 8, values = 500;
+        int[][] codes = new int[threads][2 * values];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int k = 0; k < 2 * values; k++) {
+                    int i = (k * 7 + id * 31) % (2 * values);
+                    codes[id][i] = dictionary.encode(i < values ? "Value" + i : "VALUE" + (i - values));
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+
+        assertEquals(2 * values + 1, dictionary.size());
+        Set<Integer> folded = new HashSet<>();
+        for (int i = 0; i < values; i++) {
+            for (int t = 1; t < threads; t++) {
+                assertEquals(codes[0][i], codes[t][i]);
+                assertEquals(codes[0][values + i], codes[t][values + i]);
+            }
+            assertEquals("Value" + i, dictionary.decode(codes[0][i]));
+            assertEquals("VALUE" + i, dictionary.decode(codes[0][values + i]));
+            assertEquals(dictionary.foldedCode(codes[0][i]), dictionary.foldedCode(codes[0][values + i]));
+            assertEquals(dictionary.foldedCode(codes[0][i]), dictionary.findIgnoreCase("value" + i));
+            folded.add(dictionary.foldedCode(codes[0][i]));
+        }
+        assertEquals(values, folded.size());
+    }
+
+    // Numeric fields parse without exceptions and fall back on empty or bad input
+    @Test
+    public void testFieldParser() {
+        assertEquals(17390, FieldParser.parseInt(" 17390 ", -1));
+        assertEquals(-1, FieldParser.parseInt("", -1));
+        assertEquals(-1, FieldParser.parseInt("12x", -1));
+        assertEquals(-1, FieldParser.parseInt("3000000000", -1));
+        assertEquals(Long.MIN_VALUE, FieldParser.parseLong("-9223372036854775808", 0));
+        assertEquals(-70.94856912, FieldParser.parseDouble("-70.94856912", 0));
+        assertEquals(1.5e-7, FieldParser.parseDouble("1.5E-7", 0));
+        assertEquals(Double.parseDouble("0.12345678901234567891"), FieldParser.parseDouble("0.12345678901234567891", 0));
+        assertEquals(7.0, FieldParser.parseDouble("  ", 7.0));
+        assertEquals(7.0, FieldParser.parseDouble("1e", 7.0));
+        assertEquals(7.0, FieldParser.parseDouble("1e+", 7.0));
+        assertEquals(7.0, FieldParser.parseDouble("1e 5", 7.0));
+        assertEquals(7.0, FieldParser.parseDouble("1e5 5", 7.0));
+        assertEquals(7.0, FieldParser.parseDouble("12345678901234567e 5", 7.0));
+        assertEquals(7.0, FieldParser.parseDouble("12345678901234567e-", 7.0));
+        assertEquals(1.2345678901234567e21, FieldParser.parseDouble("12345678901234567e+5", 7.0));
+        assertEquals(-2.5e-3, FieldParser.parseDouble(" -25E-4 ", 7.0));
+        assertEquals(Double.POSITIVE_INFINITY, FieldParser.parseDouble("1e99999999999999999999", 7.0));
+        assertEquals(7.0, FieldParser.parseDouble(null, 7.0));
+    }
+
+    // Space Agency reports are answered from the loaded catalog
+    @Test
+    public void testCatalogReportQueries() {
+        List<SpaceObject> impact = trackingSystem.findLongTermImpactObjects("leo", 200, 0);
+        assertEquals(1, impact.size());
+        assertEquals("D123", impact.get(0).getRecordId());
+        assertEquals("DEBRIS", impact.get(0).getObjectType());
+
+        assertEquals(1, trackingSystem.findInLongitudeRange(-80, -70).size());
+        assertEquals(2, trackingSystem.findInLongitudeRange(-180, 180).size());
+        assertTrue(trackingSystem.findInLongitudeRange(0, 10).isEmpty());
+
+        List<SpaceObject> all = trackingSystem.findInLongitudeRange(-180, 180);
+        assertTrue(all.get(0).getLongitude() <= all.get(1).getLongitude());
+        assertEquals(2, trackingSystem.countInLongitudeRange(-180, 180));
+        assertEquals(0, trackingSystem.countInLongitudeRange(10, -10));
+    }
+
+    // Longitude ranges are inclusive at both ends and stay current across updates
+    @Test
+    public void testLongitudeIndexBoundaries() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        String[][] rows = {{"L1", "10.0"}, {"L2", "10"}, {"L3", "-0.0"}, {"L4", "east"}, {"L5", ""},
+                {"L6", "180"}, {"L7", "-180"}};
+        for (String[] row : rows) {
+            lines.add(row[0] + "," + row[0] + ",Band" + row[0] + ",USA,LEO,DEBRIS,2000,AFETR," + row[1]
+                    + ",0.0,geohash,,,,,,,,100,0,,,,,");
+        }
+        Files.write(file, lines);
+        TrackingSystem indexed = new TrackingSystem();
+        indexed.loadObjectsFromCSV(file.toString());
+        Function<List<SpaceObject>, List<String>> ids = list -> list.stream().map(SpaceObject::getRecordId).toList();
+
+        assertEquals(List.of("L1", "L2"), ids.apply(indexed.findInLongitudeRange(10, 10)));
+        assertEquals(List.of("L7"), ids.apply(indexed.findInLongitudeRange(-180, -180)));
+        assertEquals(List.of("L6"), ids.apply(indexed.findInLongitudeRange(180, 180)));
+        assertEquals(List.of("L1", "L2", "D123"), ids.apply(indexed.findInLongitudeRange(10, 45)));
+        assertEquals(9, indexed.countInLongitudeRange(-180, 180));
+        // Unparsable or empty longitudes read as zero, and negative zero equals zero.
+        assertEquals(List.of("L3", "L4", "L5"), ids.apply(indexed.findInLongitudeRange(0, 0)));
+        assertEquals(List.of("L3", "L4", "L5"), ids.apply(indexed.findInLongitudeRange(-0.0, -0.0)));
+
+        assertTrue(indexed.findInLongitudeRange(10.5, 44.5).isEmpty());
+        assertEquals(0, indexed.countInLongitudeRange(10.5, 44.5));
+        assertTrue(indexed.findInLongitudeRange(10, -10).isEmpty());
+        assertEquals(0, indexed.countInLongitudeRange(10, -10));
+        assertEquals(0, indexed.getLongitudeIndex().rows(10, -10).length);
+        assertEquals(0, indexed.countInLongitudeRange(Double.NaN, 180));
+        assertEquals(0, indexed.countInLongitudeRange(-180, Double.NaN));
+
+        LongitudeIndex before = indexed.getLongitudeIndex();
+        indexed.updateObject(indexed.getObjectById("L1"), o -> o.setLongitude(50.0));
+        assertNotSame(before, indexed.getLongitudeIndex());
+        assertEquals(List.of("L2"), ids.apply(indexed.findInLongitudeRange(10, 10)));
+        assertEquals(List.of("D123", "L1"), ids.apply(indexed.findInLongitudeRange(45, 50)));
+        assertEquals(9, indexed.countInLongitudeRange(-180, 180));
+        Files.delete(file);
+    }
+
+    // Positions decode from the geohash column and answer region and same-cell queries
+    @Test
+    public void testGeoIndexQueries() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        lines.set(1, lines.get(1).replace("geohash1", "\"34.742221,-120.57243\""));
+        lines.set(2, lines.get(2).replace("geohash2", "\"62.925556,40.577778\""));
+        lines.add("D789,D789,DebrisTwo,USA,LEO,DEBRIS,2001,AFETR,10.0,11.0,\"34.742221,-120.57243\",,,,,,,,100,0,,,,,");
+        Files.write(file, lines);
+        TrackingSystem located = new TrackingSystem();
+        located.loadObjectsFromCSV(file.toString());
+        Files.delete(file);
+
+        SpaceObject debris = located.getObjectById("D123");
+        assertEquals(34.742221, GeoCell.latitude(debris.getGeoCell()), 1e-6);
+        assertEquals(-120.57243, GeoCell.longitude(debris.getGeoCell()), 1e-6);
+        assertEquals(GeoCell.NO_CELL, trackingSystem.getObjectById("D123").getGeoCell());
+
+        assertEquals(2, located.findInRegion(30, -125, 40, -115).size());
+        assertEquals(1, located.countInRegion(60, 40, 65, 41));
+        assertEquals(3, located.countInRegion(-90, -180, 90, 180));
+        assertEquals(0, located.countInRegion(0, 0, 10, 10));
+        assertEquals(2, located.findInSameCell("34.742221,-120.57243", GeoCell.LEVELS).size());
+        assertEquals(1, located.findInSameCell("62.9,40.5", 8).size());
+    }
+
+    // Bitmap indexes compose attribute and flag filters
+    @Test
+    public void testBitmapIndexFilters() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        lines.add("D789,D789,DebrisTwo,CIS,LEO,DEBRIS,1985,PKMTR,10.0,11.0,geohash3,,TRUE,,FALSE,,,,100,2,FALSE,,,,,");
+        lines.add("D790,D790,DebrisThree,CIS,LEO,DEBRIS,1991,PKMTR,12.0,13.0,geohash4,,FALSE,,TRUE,,,,100,4,TRUE,,,,,");
+        Files.write(file, lines);
+        TrackingSystem indexed = new TrackingSystem();
+        indexed.loadObjectsFromCSV(file.toString());
+        Files.delete(file);
+
+        BitmapIndex index = indexed.getBitmapIndex();
+        BitSet cisLeoDebris = BitmapIndex.and(index.country("cis"), index.orbitType("LEO"),
+                index.objectType("Debris"), index.withConjunctions());
+        assertEquals(2, cisLeoDebris.cardinality());
+
+        BitSet before1990 = BitmapIndex.and(index.launchedBetween(Integer.MIN_VALUE, 1989), cisLeoDebris);
+        List<SpaceObject> matches = index.objects(before1990);
+        assertEquals(1, matches.size());
+        assertEquals("D789", matches.get(0).getRecordId());
+        assertTrue(matches.get(0).isNominated());
+
+        assertEquals(2, index.launchedBetween(1990, 2009).cardinality());
+        assertEquals(3, index.not(index.hasDossier()).cardinality());
+        assertEquals(2, BitmapIndex.or(index.nominated(), index.unkObject()).cardinality());
+        assertEquals(0, index.country("FRANCE").cardinality());
+        assertTrue(indexed.getObjectById("D790").isUnkObject());
+    }
+
+    // Queries pick the cheapest index and return the same results as a scan
+    @Test
+    public void testCatalogQuery() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        for (int i = 0; i < 20; i++) {
+            lines.add("C" + i + ",C" + i + ",Cis" + i + ",CIS," + (i % 2 == 0 ? "LEO" : "MEO") + ",DEBRIS,"
+                    + (1970 + i) + ",PKMTR," + (i * 5) + ",0,geohash,,FALSE,,FALSE,,,,100," + (i % 3) + ",FALSE,,,,,");
+        }
+        Files.write(file, lines);
+        TrackingSystem queried = new TrackingSystem();
+        queried.loadObjectsFromCSV(file.toString());
+        Files.delete(file);
+
+        CatalogQuery query = queried.query().country("cis").orbitType("LEO").launchedBetween(0, 1989).withConjunctions();
+        assertTrue(query.explain().startsWith("bitmap index"));
+        assertEquals(List.of("C2", "C4", "C8", "C10", "C14", "C16"), query.select(SpaceObject::getRecordId));
+        assertEquals(6, query.count());
+
+        CatalogQuery byId = queried.query().recordId("P456").objectType("payload");
+        assertTrue(byId.explain().startsWith("record id lookup (1 candidates)"));
+        assertEquals(1, byId.list().size());
+
+        CatalogQuery byType = queried.query().objectType("PAYLOAD");
+        assertTrue(byType.explain().startsWith("object type map"));
+        assertEquals("P456", byType.list().get(0).getRecordId());
+
+        CatalogQuery byLongitude = queried.query().longitudeBetween(40, 50).olderThan(50);
+        assertEquals("longitude index (4 candidates) -> filter days old > 50", byLongitude.explain());
+        assertEquals(List.of("D123", "C8", "C9", "C10"), byLongitude.select(SpaceObject::getRecordId));
+
+        List<SpaceObject> top = queried.query().objectType("DEBRIS")
+                .sortBy(Comparator.comparingLong(SpaceObject::getConjunctionCount).reversed()
+                        .thenComparing(SpaceObject::getRecordId))
+                .limit(2).list();
+        assertEquals(List.of("D123", "C11"), top.stream().map(SpaceObject::getRecordId).toList());
+        assertEquals(3, queried.query().objectType("DEBRIS").limit(3).list().size());
+
+        Map<String, Integer> byOrbit = queried.query().objectType("DEBRIS").countBy(SpaceObject::getOrbitType);
+        assertEquals(Map.of("LEO", 11, "MEO", 10), byOrbit);
+        assertEquals(10, queried.query().orbitType("MEO").groupBy(SpaceObject::getCountry).get("CIS").size());
+        assertEquals(0, queried.query().country("NOWHERE").count());
+    }
+
+    // Results can be streamed lazily, paged, and read through a cursor
+    @Test
+    public void testStreamingResults() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> trackingSystem.getObjectsByType("DEBRIS").clear());
+        assertSame(trackingSystem.getObjectsByType("NONE"), trackingSystem.getObjectsByType("OTHER"));
+
+        int[] tested = {0};
+        List<String> first = trackingSystem.query()
+                .filter(obj -> { tested[0]++; return true; })
+                .stream().limit(1).map(SpaceObject::getRecordId).toList();
+        assertEquals(List.of("D123"), first);
+        assertEquals(1, tested[0]);
+
+        assertEquals(List.of("P456"), trackingSystem.query().page(1, 1).select(SpaceObject::getRecordId));
+        assertTrue(trackingSystem.query().page(5, 1).list().isEmpty());
+        assertEquals(1, trackingSystem.query().offset(1).count());
+
+        CatalogCursor cursor = trackingSystem.query().cursor();
+        assertEquals(1, cursor.nextPage(1).size());
+        assertEquals("P456", cursor.next().getRecordId());
+        assertEquals(2, cursor.position());
+        assertTrue(cursor.nextPage(10).isEmpty());
+        assertFalse(cursor.hasNext());
+    }
+
+    // Top-K selections match a full stable sort, across several parallel chunks
+    @Test
+    public void testTopKRankings() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")).subList(0, 1));
+        Random random = new Random(18);
+        for (int i = 1; i <= 40000; i++) {
+            lines.add(i + "," + i + ",Obj" + i + ",US,LEO,DEBRIS,2000,AFETR," + random.nextInt(360) + ","
+                    + random.nextInt(360) + ",,,,,,,,,100," + random.nextInt(50) + ",,,,,");
+        }
+        Files.write(file, lines);
+        TrackingSystem ranked = new TrackingSystem();
+        ranked.loadObjectsFromCSV(file.toString());
+        List<SpaceObject> all = ranked.query().list();
+
+        Comparator<SpaceObject> byConjunctions = Comparator.comparingLong(SpaceObject::getConjunctionCount).reversed();
+        Comparator<SpaceObject> byDrift = Comparator.comparingDouble(SpaceObject::getLongitudeDrift).reversed();
+        assertEquals(all.stream().sorted(byConjunctions).limit(100).toList(), ranked.topByConjunctions(100));
+        assertEquals(all.stream().sorted(byDrift).limit(25).toList(), ranked.topByDrift(25));
+        assertEquals(all.stream().sorted(byDrift).skip(5).limit(10).toList(),
+                ranked.query().sortBy(byDrift).offset(5).limit(10).list());
+        assertTrue(ranked.query().sortBy(byDrift).limit(10).explain().endsWith("-> top 10 -> limit 10"));
+        assertTrue(ranked.topByConjunctions(0).isEmpty());
+
+        CatalogRanking ranking = ranked.registerRanking("conjunctions", byConjunctions);
+        assertSame(ranking, ranked.registerRanking("conjunctions", byDrift));
+        assertEquals(40000, ranking.size());
+        SpaceObject last = all.stream().sorted(byConjunctions).toList().get(39999);
+        ranked.updateObject(last, o -> o.setConjunctionCount(1000));
+        assertSame(last, ranking.top(1).get(0));
+        assertEquals(ranked.topByConjunctions(50).stream().map(SpaceObject::getConjunctionCount).toList(),
+                ranking.top(50).stream().map(SpaceObject::getConjunctionCount).toList());
+        ranked.removeRanking("conjunctions");
+        assertNull(ranked.getRanking("conjunctions"));
+        Files.delete(file);
+    }
+
+    // Objects that tie on rank and share a record id are all ranked
+    @Test
+    public void testRankingKeepsDuplicateIds() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        lines.add(lines.get(1));
+        lines.add(lines.get(1).replace("D123,D123,", ",,"));
+        lines.add(lines.get(1).replace("D123,D123,", ",,"));
+        Files.write(file, lines);
+        TrackingSystem ranked = new TrackingSystem();
+        CatalogRanking ranking = ranked.registerRanking("conjunctions",
+                Comparator.comparingLong(SpaceObject::getConjunctionCount).reversed());
+        ranked.loadObjectsFromCSV(file.toString());
+
+        assertEquals(5, ranked.query().count());
+        assertEquals(5, ranking.size());
+        Set<SpaceObject> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(ranking.top(5));
+        assertEquals(5, distinct.size());
+        assertTrue(ranking.top(4).stream().allMatch(o -> o.getConjunctionCount() == 3));
+        CatalogRanking seeded = ranked.registerRanking("age", Comparator.comparingInt(SpaceObject::getDaysOld));
+        assertEquals(ranked.query().count(), seeded.size());
+        SpaceObject duplicate = ranked.getObjectsByType("DEBRIS").get(1);
+        ranked.updateObject(duplicate, o -> o.setConjunctionCount(0));
+        assertEquals(5, ranking.size());
+        assertSame(duplicate, ranking.top(5).get(4));
+
+        // Objects shadowed in the record ID index can be updated too.
+        SpaceObject shadowed = ranked.getObjectsByType("DEBRIS").get(0);
+        SpaceObject unnamed = ranked.getObjectsByType("DEBRIS").get(2);
+        assertNotSame(shadowed, ranked.getObjectById("D123"));
+        assertNotSame(unnamed, ranked.getObjectById(""));
+        ranked.updateObject(shadowed, o -> o.setConjunctionCount(7));
+        ranked.updateObject(unnamed, o -> o.setConjunctionCount(5));
+        assertEquals(5, ranking.size());
+        assertEquals(List.of(shadowed, unnamed), ranking.top(2));
+        assertSame(duplicate, ranked.getObjectById("D123"));
+        assertEquals(5, ranked.query().count());
+        ranked.updateObject(duplicate, o -> o.setRecordId("D999"));
+        assertSame(duplicate, ranked.getObjectById("D999"));
+        assertSame(shadowed, ranked.getObjectById("D123"));
+        Files.delete(file);
+    }
+
+    // Parallel debris assessment gives the serial result for every piece
+    @Test
+    public void testParallelDebrisAssessment() {
+        Random random = new Random(19);
+        List<Debris> debris = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            debris.add(new Debris("D" + i, "Debris" + i, "US", i % 7 == 0 ? "" : "LEO", 2000, "AFETR",
+                    random.nextInt(360) - 180, random.nextInt(360) - 180, null, random.nextInt(20000), random.nextInt(3)));
+        }
+        DebrisAssessor.assess(debris, Debris::meetsInOrbitCriteria);
+        for (Debris d : debris) {
+            assertEquals(d.meetsInOrbitCriteria(), d.isStillInOrbit());
+            double drift = Math.abs(d.getLongitude() - d.getAvgLongitude());
+            assertEquals(drift > 50 ? "High" : drift > 10 ? "Moderate" : "Low", d.getRiskLevel());
+        }
+    }
+
+    // A fused risk pipeline gives every model's standalone result, from catalogs and objects alike
+    @Test
+    public void testRiskPipeline() {
+        Random random = new Random(24);
+        List<Debris> debris = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            debris.add(new Debris("D" + i, "Debris" + i, "US", "LEO", 2000, "AFETR",
+                    random.nextInt(360) - 180, random.nextInt(360) - 180, null, random.nextInt(20000), random.nextInt(5)));
+        }
+        RiskModel crowded = new RiskModel() {
+            @Override public String name() { return "Crowded"; }
+            @Override public void score(RiskBatch batch, double[] scores) {
+                for (int i = 0; i < batch.size(); i++) scores[i] = batch.conjunctionCounts()[i];
+            }
+            @Override public RiskLevel level(double score) { return score >= 3 ? RiskLevel.HIGH : RiskLevel.LOW; }
+        };
+        RiskPipeline pipeline = new RiskPipeline(RiskModels.DRIFT, RiskModels.CONJUNCTION_WEIGHTED, RiskModels.AGE_WEIGHTED, crowded);
+        RiskPipeline.Result fused = DebrisAssessor.assess(debris, Debris::meetsInOrbitCriteria, pipeline);
+        assertEquals(debris.size(), fused.size());
+        for (int m = 0; m < fused.modelCount(); m++) {
+            RiskPipeline.Result alone = new RiskPipeline(fused.model(m)).evaluate(debris);
+            int counted = 0;
+            for (RiskLevel level : RiskLevel.values()) counted += fused.count(m, level);
+            assertEquals(debris.size(), counted);
+            for (int i = 0; i < debris.size(); i++) {
+                assertEquals(alone.score(0, i), fused.score(m, i));
+                assertSame(alone.level(0, i), fused.level(m, i));
+            }
+        }
+        for (int i = 0; i < debris.size(); i++) {
+            Debris d = debris.get(i);
+            assertSame(fused.level(0, i), d.getRisk());
+            assertEquals(d.getLongitudeDrift(), d.getRiskScore());
+            assertEquals(d.getConjunctionCount() >= 3 ? RiskLevel.HIGH : RiskLevel.LOW, fused.level(3, i));
+        }
+
+        ColumnarCatalog catalog = trackingSystem.getColumnarCatalog();
+        int[] rows = IntStream.range(0, catalog.size()).toArray();
+        RiskPipeline.Result fromCatalog = pipeline.evaluate(catalog, rows);
+        RiskPipeline.Result fromObjects = pipeline.evaluate(IntStream.of(rows).mapToObj(catalog::object).toList());
+        for (int m = 0; m < pipeline.models().size(); m++) {
+            for (int i = 0; i < rows.length; i++) assertEquals(fromObjects.score(m, i), fromCatalog.score(m, i));
+        }
+
+        Debris d = debris.get(0);
+        d.setRiskLevel("moderate");
+        assertEquals("Moderate", d.getRiskLevel());
+        d.setRiskLevel("Severe");
+        assertNull(d.getRiskLevel());
+        assertNull(d.getRisk());
+        assertThrows(IllegalArgumentException.class, () -> RiskLevel.fromLabel("Severe"));
+        assertThrows(IllegalArgumentException.class, RiskPipeline::new);
+    }
+
+    // Re-assessment only touches dirty debris and patches counts to the full result
+    @Test
+    public void testIncrementalDebrisAssessment() {
+        Random random = new Random(25);
+        List<Debris> debris = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            debris.add(new Debris("D" + i, "Debris" + i, "US", i % 7 == 0 ? "" : "LEO", 2000, "AFETR",
+                    random.nextInt(360) - 180, random.nextInt(360) - 180, null, random.nextInt(20000), random.nextInt(3)));
+        }
+        RiskPipeline pipeline = new RiskPipeline(RiskModels.all());
+        DebrisAssessment assessment = new DebrisAssessment(Debris::meetsInOrbitCriteria, pipeline);
+        assertEquals(10000, assessment.assess(debris));
+        assertTrue(assessment.isChanged());
+        Function<Debris, String> format = d -> d.getRecordId() + "," + d.getLongitude() + "," + d.getRiskLevel();
+        String untouchedRow = assessment.reportRow(1, format);
+        String touchedRow = assessment.reportRow(2, format);
+
+        assertEquals(0, assessment.assess(debris));
+        assertFalse(assessment.isChanged());
+
+        int before = debris.get(2).getModCount();
+        debris.get(2).setLongitude(debris.get(2).getAvgLongitude() + 80);
+        debris.get(3).setConjunctionCount(0);
+        assertEquals(before + 1, debris.get(2).getModCount());
+        List<Debris> next = new ArrayList<>(debris);
+        next.remove(5000);
+        next.add(new Debris("NEW", "New", "US", "LEO", 2020, "AFETR", 100, 0, null, 100, 2));
+        assertEquals(3, assessment.assess(next));
+        assertTrue(assessment.isChanged());
+        assertEquals("High", debris.get(2).getRiskLevel());
+        assertSame(untouchedRow, assessment.reportRow(1, format));
+        assertNotEquals(touchedRow, assessment.reportRow(2, format));
+
+        DebrisAssessment full = new DebrisAssessment(Debris::meetsInOrbitCriteria, pipeline);
+        full.assess(next);
+        assertEquals(full.inOrbitCount(), assessment.inOrbitCount());
+        assertEquals(next.stream().filter(Debris::meetsInOrbitCriteria).count(), assessment.inOrbitCount());
+        for (int m = 0; m < pipeline.models().size(); m++) {
+            for (RiskLevel level : RiskLevel.values()) assertEquals(full.count(m, level), assessment.count(m, level));
+        }
+
+        DebrisAssessment tracked = trackingSystem.assessDebris();
+        int size = tracked.size();
+        assertSame(tracked, trackingSystem.assessDebris());
+        assertEquals(0, tracked.reassessed());
+        trackingSystem.getColumnarCatalog();
+        trackingSystem.updateObject(tracked.get(0), o -> o.setDaysOld(o.getDaysOld() + 1));
+        assertEquals(1, trackingSystem.assessDebris().reassessed());
+        assertEquals(size, tracked.size());
+        assertFalse(trackingSystem.isColumnarCatalogCurrent());
+    }
+
+    // The exited debris report stays in catalog order however objects were edited
+    @Test
+    public void testExitedReportOrder() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        new CatalogGenerator(16).write(2000, file);
+        TrackingSystem edited = new TrackingSystem();
+        edited.loadObjectsFromCSV(file.toString());
+        CatalogView exitedView = edited.registerView("exited", o -> o instanceof Debris d && !d.meetsInOrbitCriteria());
+        List<Debris> exited = edited.assessDebris().exited();
+        assertTrue(exited.size() > 2);
+        assertEquals(exitedView.size(), exited.size());
+
+        Debris first = exited.get(0);
+        edited.updateObject(first, o -> o.setSatelliteName(o.getSatelliteName() + " (renamed)"));
+        assertNotSame(first, exitedView.objects().iterator().next());
+        List<Debris> reported = edited.assessDebris().exited();
+        assertEquals(exited, reported);
+        assertEquals(edited.getObjectsByType("DEBRIS").stream().filter(exitedView::contains).toList(), reported);
+        Files.delete(file);
+    }
+
+    // Stepped drift propagation matches the closed-form linear drift
+    @Test
+    public void testDriftPropagation() {
+        ColumnarCatalog catalog = trackingSystem.getColumnarCatalog();
+        DriftPropagator propagator = new DriftPropagator(catalog);
+        assertEquals(-0.0004, propagator.rate(0), 1e-12);
+        assertEquals(1.0, propagator.drift(0), 1e-9);
+
+        propagator.propagate(1000, 7);
+        assertEquals(1000, propagator.elapsedDays(), 1e-9);
+        assertEquals(44.6, propagator.longitude(0), 1e-9);
+        assertEquals(45.8, propagator.avgLongitude(0), 1e-9);
+        assertEquals(1.2, propagator.drift(0), 1e-9);
+        assertEquals(6000, propagator.daysOld(0));
+        assertArrayEquals(new int[] {1, 0}, propagator.topByDrift(2));
+        assertEquals(1, propagator.countDriftAbove(1.25));
+        assertEquals(45.0, catalog.longitude(0));
+        assertThrows(IllegalArgumentException.class, () -> propagator.propagate(10, 0));
+    }
+
+    // Grid screening finds exactly the pairs an all-pairs comparison finds
+    @Test
+    public void testConjunctionScreening() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        Random random = new Random(21);
+        for (int i = 1; i <= 3000; i++) {
+            double lat = random.nextDouble() * 40 - 20;
+            double lon = i % 3 == 0 ? 178 + random.nextDouble() * 4 : random.nextDouble() * 60;
+            lines.add(i + "," + i + ",Obj" + i + ",US," + (i % 2 == 0 ? "LEO" : "leo") + (i % 5 == 0 ? "x" : "")
+                    + ",DEBRIS,2000,AFETR,0,0,\"" + lat + "," + (lon > 180 ? lon - 360 : lon) + "\",,,,,,,,100,7,,,,,");
+        }
+        Files.write(file, lines);
+        TrackingSystem screened = new TrackingSystem();
+        screened.loadObjectsFromCSV(file.toString());
+        ColumnarCatalog catalog = screened.getColumnarCatalog();
+
+        double distance = 1.5;
+        int[] expected = new int[catalog.size()];
+        for (int a = 0; a < catalog.size(); a++) {
+            for (int b = a + 1; b < catalog.size(); b++) {
+                long ca = catalog.geoCell(a), cb = catalog.geoCell(b);
+                if (ca == GeoCell.NO_CELL || cb == GeoCell.NO_CELL
+                        || !catalog.orbitType(a).equalsIgnoreCase(catalog.orbitType(b))) continue;
+                double gap = Math.abs(GeoCell.longitude(ca) - GeoCell.longitude(cb));
+                if (Math.abs(GeoCell.latitude(ca) - GeoCell.latitude(cb)) <= distance && Math.min(gap, 360 - gap) <= distance) {
+                    expected[a]++;
+                    expected[b]++;
+                }
+            }
+        }
+        ConjunctionScreener screener = new ConjunctionScreener(catalog, distance);
+        assertEquals(3000, screener.size());
+        int[] counts = screener.counts();
+        for (int row = 0; row < catalog.size(); row++) {
+            assertEquals(catalog.geoCell(row) == GeoCell.NO_CELL ? -1 : expected[row], counts[row]);
+        }
+        int busiest = TopK.select(counts.length, 1, row -> counts[row])[0];
+        assertTrue(counts[busiest] > 1);
+        assertEquals(expected[busiest], screener.partners(busiest).length);
+
+        screened.screenConjunctions(distance);
+        for (int row = 0; row < catalog.size(); row++) {
+            long original = catalog.conjunctionCount(row);
+            assertEquals(counts[row] < 0 ? original : counts[row], catalog.object(row).getConjunctionCount());
+        }
+        assertEquals(3, screened.getObjectById("D123").getConjunctionCount());
+        assertEquals(expected[busiest], screened.topByConjunctions(1).get(0).getConjunctionCount());
+        assertThrows(IllegalArgumentException.class, () -> new ConjunctionScreener(catalog, 0));
+        Files.delete(file);
+    }
+
+    // Screening writes a count to every positioned object, even ones sharing or lacking a record ID
+    @Test
+    public void testScreenConjunctionsWithDuplicateIds() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        new CatalogGenerator(3).malformedRate(0.05).write(2000, file);
+        List<String> lines = new ArrayList<>(Files.readAllLines(file));
+        lines.add(lines.get(1));
+        lines.add(lines.get(2).replaceFirst("^[^,]*,", ","));
+        Files.write(file, lines);
+        TrackingSystem screened = new TrackingSystem();
+        screened.loadObjectsFromCSV(file.toString());
+        CatalogRanking ranking = screened.registerRanking("conjunctions",
+                Comparator.comparingLong(SpaceObject::getConjunctionCount).reversed());
+
+        ColumnarCatalog catalog = screened.getColumnarCatalog();
+        Set<String> ids = new HashSet<>();
+        long shadowed = 0;
+        for (int row = 0; row < catalog.size(); row++) {
+            if (!ids.add(catalog.object(row).getRecordId())) shadowed++;
+        }
+        assertTrue(shadowed > 0);
+        assertTrue(ids.contains(""));
+
+        int[] counts = new ConjunctionScreener(catalog, 1.0).counts();
+        screened.screenConjunctions(1.0);
+        int positioned = 0;
+        for (int row = 0; row < catalog.size(); row++) {
+            if (counts[row] < 0) continue;
+            assertEquals(counts[row], catalog.object(row).getConjunctionCount());
+            positioned++;
+        }
+        assertTrue(positioned > 0);
+        assertEquals(catalog.size(), ranking.size());
+        assertEquals(0, screened.screenConjunctions(1.0));
+        Files.delete(file);
+    }
+
+    // Monte Carlo mission risk is reproducible from its seed and bounded by its interval
+    @Test
+    public void testMissionRiskSimulation() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        Random random = new Random(22);
+        for (int i = 1; i <= 20000; i++) {
+            lines.add(i + "," + i + ",Obj" + i + ",US," + (i % 4 == 0 ? "GEO" : "LEO") + "," + (i % 10 == 0 ? "PAYLOAD" : "DEBRIS")
+                    + ",2000,AFETR,0,0,\"" + (random.nextDouble() * 60 - 30) + "," + (random.nextDouble() * 360 - 180) + "\",,,,,,,,100,0,,,,,");
+        }
+        Files.write(file, lines);
+        TrackingSystem simulated = new TrackingSystem();
+        simulated.loadObjectsFromCSV(file.toString());
+        ColumnarCatalog catalog = simulated.getColumnarCatalog();
+
+        MissionRiskSimulator simulator = new MissionRiskSimulator(catalog, "leo", 1e-3);
+        assertEquals((int) IntStream.rangeClosed(1, 20000).filter(i -> i % 4 != 0 && i % 10 != 0).count(), simulator.population());
+        RiskEstimate estimate = simulator.simulate(30, 25000, 7);
+        assertEquals(25000, estimate.getTrials());
+        assertEquals(estimate.getCollisions(), simulator.simulate(30, 25000, 7).getCollisions());
+        assertTrue(estimate.getCollisions() > 0);
+        assertTrue(estimate.getLowerBound() < estimate.getProbability() && estimate.getProbability() < estimate.getUpperBound());
+        assertTrue(estimate.getMeanEncounters() > 0);
+
+        assertEquals(0, new MissionRiskSimulator(catalog, "leo", 0).simulate(30, 1000, 7).getCollisions());
+        assertEquals(0, new MissionRiskSimulator(catalog, "HEO", 1).population());
+        assertEquals("Low", new MissionRiskSimulator(catalog, "HEO", 1).simulate(30, 1000, 7).getRiskLevel());
+        assertThrows(IllegalArgumentException.class, () -> new MissionRiskSimulator(catalog, "LEO", 1.5));
+        Files.delete(file);
+    }
+
+    // Generated catalogs are seeded, load with shuffled columns, and survive malformed rows
+    @Test
+    public void testCatalogGenerator() throws Exception {
+        StringWriter first = new StringWriter(), second = new StringWriter();
+        new CatalogGenerator(23).write(500, first);
+        new CatalogGenerator(23).write(500, second);
+        assertEquals(first.toString(), second.toString());
+
+        Path plain = Files.createTempFile("rso", ".csv"), shuffled = Files.createTempFile("rso", ".csv");
+        assertEquals(0, new CatalogGenerator(23).write(2000, plain));
+        new CatalogGenerator(23).shuffleColumns(true).write(2000, shuffled);
+        assertNotEquals(Files.readAllLines(plain).get(0), Files.readAllLines(shuffled).get(0));
+        TrackingSystem fromPlain = new TrackingSystem(), fromShuffled = new TrackingSystem();
+        fromPlain.loadObjectsFromCSV(plain.toString());
+        fromShuffled.loadObjectsFromCSV(shuffled.toString());
+        List<SpaceObject> objects = fromPlain.query().list();
+        assertEquals(2000, objects.size());
+        for (String type : List.of("DEBRIS", "PAYLOAD", "ROCKET BODY")) assertFalse(fromPlain.getObjectsByType(type).isEmpty());
+        for (SpaceObject obj : objects) {
+            SpaceObject twin = fromShuffled.getObjectById(obj.getRecordId());
+            assertEquals(obj.getSatelliteName(), twin.getSatelliteName());
+            assertEquals(obj.getObjectType(), twin.getObjectType());
+            assertEquals(obj.getGeoCell(), twin.getGeoCell());
+            assertEquals(obj.getDaysOld(), twin.getDaysOld());
+            assertEquals(obj.getConjunctionCount(), twin.getConjunctionCount());
+        }
+
+        long malformed = new CatalogGenerator(23).shuffleColumns(true).malformedRate(0.2).write(2000, shuffled);
+        assertTrue(malformed > 300 && malformed < 500);
+        TrackingSystem fromMalformed = new TrackingSystem();
+        assertDoesNotThrow(() -> fromMalformed.loadObjectsFromCSV(shuffled.toString()));
+        int loaded = fromMalformed.query().count();
+        assertTrue(loaded >= 2000 - malformed && loaded <= 2000, "loaded " + loaded);
+        Files.delete(plain);
+        Files.delete(shuffled);
+    }
+
+    // Queries answered by the record id or type maps do not rebuild the columnar indexes
+    @Test
+    public void testPlannerSkipsStaleIndexes() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        new CatalogGenerator(13).write(2000, file);
+        TrackingSystem planned = new TrackingSystem();
+        planned.loadObjectsFromCSV(file.toString());
+        SpaceObject obj = planned.getObjectsByType("DEBRIS").get(0);
+        assertTrue(planned.query().objectType("DEBRIS").orbitType(obj.getOrbitType()).count() > 0);
+        assertTrue(planned.isColumnarCatalogCurrent());
+
+        planned.updateObject(obj, o -> o.setDaysOld(o.getDaysOld() + 1));
+        assertFalse(planned.isColumnarCatalogCurrent());
+        assertEquals(List.of(obj), planned.query().recordId(obj.getRecordId()).list());
+        assertTrue(planned.query().recordId(obj.getRecordId()).country(obj.getCountry()).longitudeBetween(-180, 180)
+                .explain().startsWith("record id lookup (1 candidates) -> filter country = "));
+        assertEquals(planned.getObjectsByType("DEBRIS"), planned.query().objectType("debris").list());
+        assertEquals(planned.getObjectsByType("DEBRIS").size(), planned.query().olderThan(-1).objectType("DEBRIS").count());
+        assertEquals(2000, planned.query().olderThan(-1).count());
+        assertFalse(planned.isColumnarCatalogCurrent());
+
+        assertTrue(planned.query().objectType("DEBRIS").orbitType(obj.getOrbitType()).explain().startsWith("bitmap index"));
+        assertTrue(planned.isColumnarCatalogCurrent());
+        Files.delete(file);
+    }
+
+    // The cube is seeded from the same objects as the catalog, duplicate record ids included
+    @Test
+    public void testAggregateCubeCountsDuplicateIds() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        lines.add(lines.get(1));
+        lines.add(lines.get(2).replace("P456,P456,", ",,"));
+        Files.write(file, lines);
+        TrackingSystem duplicated = new TrackingSystem();
+        duplicated.loadObjectsFromCSV(file.toString());
+
+        AggregateCube cube = duplicated.getAggregateCube();
+        assertEquals(duplicated.query().count(), cube.total().getCount());
+        assertEquals(2, cube.aggregate(Map.of(Dimension.OBJECT_TYPE, "DEBRIS")).getCount());
+        assertEquals(duplicated.getColumnarCatalog().totalConjunctions(IntStream.range(0, 4).toArray()),
+                cube.total().getTotalConjunctions());
+        Files.delete(file);
+    }
+
+    // Materialized views follow inserts, updates and deletes
+    @Test
+    public void testMaterializedViews() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        Files.write(file, lines);
+        TrackingSystem viewed = new TrackingSystem();
+        viewed.loadObjectsFromCSV(file.toString());
+
+        CatalogView impact = viewed.registerView("impact",
+                o -> o.hasOrbitType("LEO") && o.getDaysOld() > 200 && o.getConjunctionCount() > 0);
+        CatalogView inOrbit = viewed.registerView("in orbit", o -> o instanceof Debris d && d.meetsInOrbitCriteria());
+        assertSame(impact, viewed.registerView("impact", o -> false));
+        assertEquals(1, impact.size());
+        assertEquals(1, inOrbit.size());
+
+        Files.writeString(file, "D789,D789,DebrisTwo,USA,LEO,DEBRIS,2001,AFETR,10.0,11.0,geohash3,,,,,,,,300,2,,,,,\n",
+                StandardOpenOption.APPEND);
+        viewed.refreshFromCSV(file.toString());
+        assertEquals(2, impact.size());
+
+        SpaceObject d123 = viewed.getObjectById("D123");
+        viewed.updateObject(d123, o -> o.setConjunctionCount(0));
+        assertFalse(impact.contains(d123));
+        assertFalse(inOrbit.contains(d123));
+        assertEquals(0, viewed.query().recordId("D123").withConjunctions().count());
+
+        lines.set(2, lines.get(2).replace("GEO", "LEO"));
+        Files.write(file, lines);
+        viewed.refreshFromCSV(file.toString());
+        assertEquals(Set.of("D123", "P456"), impact.objects().stream().map(SpaceObject::getRecordId).collect(java.util.stream.Collectors.toSet()));
+        assertEquals(3, viewed.getObjectById("D123").getConjunctionCount());
+        assertEquals(1, inOrbit.size());
+
+        // Objects sharing a record ID, or without one, follow updates like any other.
+        lines.add(lines.get(1));
+        lines.add(lines.get(1).replace("D123,D123,", ",,"));
+        Files.write(file, lines);
+        viewed.refreshFromCSV(file.toString());
+        assertEquals(4, impact.size());
+        SpaceObject shadowed = viewed.getObjectsByType("DEBRIS").get(0);
+        SpaceObject unnamed = viewed.getObjectById("");
+        assertNotSame(shadowed, viewed.getObjectById("D123"));
+        viewed.updateObject(shadowed, o -> o.setConjunctionCount(0));
+        viewed.updateObject(unnamed, o -> o.setConjunctionCount(0));
+        assertFalse(impact.contains(shadowed));
+        assertFalse(impact.contains(unnamed));
+        assertTrue(impact.contains(viewed.getObjectById("D123")));
+        assertEquals(2, impact.size());
+
+        viewed.removeView("impact");
+        assertNull(viewed.getView("impact"));
+        Files.delete(file);
+    }
+
+    @Test
+    public void testAggregateCube() throws Exception {
+        Path file = Files.createTempFile("rso", ".csv");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get("tests/test_rso_metrics.csv")));
+        lines.add("D789,D789,DebrisTwo,usa,LEO,DEBRIS,2001,AFETR,10.0,11.0,geohash3,,,,,,,,300,2,,,,,");
+        Files.write(file, lines);
+        TrackingSystem cubed = new TrackingSystem();
+        cubed.loadObjectsFromCSV(file.toString());
+        AggregateCube cube = cubed.getAggregateCube();
+
+        Aggregate total = cube.total();
+        assertEquals(3, total.getCount());
+        assertEquals(8300, total.getTotalDaysOld());
+        assertEquals(6, total.getTotalConjunctions());
+
+        Aggregate usDebris = cube.aggregate(Map.of(Dimension.COUNTRY, "USA", Dimension.OBJECT_TYPE, "debris"));
+        assertEquals(2, usDebris.getCount());
+        assertEquals(2650.0, usDebris.getAverageDaysOld(), 1e-9);
+        assertEquals(0, cube.aggregate(Map.of(Dimension.COUNTRY, "NOWHERE")).getCount());
+
+        Map<List<String>, Aggregate> byCountryOrbit = cube.groupBy(Dimension.COUNTRY, Dimension.ORBIT_TYPE);
+        assertEquals(List.of(List.of("USA", "LEO"), List.of("RUS", "GEO")), new ArrayList<>(byCountryOrbit.keySet()));
+        assertEquals(5, byCountryOrbit.get(List.of("USA", "LEO")).getTotalConjunctions());
+        Map<List<String>, Aggregate> leoByType = cube.groupBy(Map.of(Dimension.ORBIT_TYPE, "leo"), Dimension.OBJECT_TYPE);
+        assertEquals(Set.of(List.of("DEBRIS")), leoByType.keySet());
+
+        cubed.updateObject(cubed.getObjectById("D789"), o -> o.setConjunctionCount(10));
+        assertEquals(14, cube.total().getTotalConjunctions());
+        Files.write(file, lines.subList(0, 3));
+        cubed.refreshFromCSV(file.toString());
+        assertEquals(2, cube.total().getCount());
+        assertEquals(4, cube.total().getTotalConjunctions());
+        assertEquals(2, cube.cellCount());
+        Files.delete(file);
+    }
+
     @Test
     public void testParseIntSafe_InvalidHandling() {
         assertDoesNotThrow(() -> trackingSystem.loadObjectsFromCSV("nonexistent.csv"),